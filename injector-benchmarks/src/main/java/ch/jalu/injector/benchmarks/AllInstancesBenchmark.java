@@ -0,0 +1,51 @@
+package ch.jalu.injector.benchmarks;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.benchmarks.samples.plugins.PluginRegistry;
+import ch.jalu.injector.extras.handlers.AllInstancesAnnotationHandler;
+import ch.jalu.injector.extras.handlers.AllTypesAnnotationHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the handlers of {@link ch.jalu.injector.extras.AllInstances @AllInstances} and
+ * {@link ch.jalu.injector.extras.AllTypes @AllTypes}: creates an object with all plugin instances and types.
+ * The class path is scanned once when the handlers are created.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AllInstancesBenchmark {
+
+    private static final String SAMPLES_PACKAGE = "ch.jalu.injector.benchmarks.samples";
+
+    private Injector injector;
+
+    @Setup
+    public void createInjector() {
+        injector = new InjectorBuilder()
+            .addHandlers(new AllInstancesAnnotationHandler(SAMPLES_PACKAGE),
+                new AllTypesAnnotationHandler(SAMPLES_PACKAGE))
+            .addDefaultHandlers(SAMPLES_PACKAGE)
+            .create();
+    }
+
+    @Benchmark
+    public PluginRegistry newInstanceWithAllInstances() {
+        return injector.newInstance(PluginRegistry.class);
+    }
+}
@@ -0,0 +1,45 @@
+package ch.jalu.injector.benchmarks;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.benchmarks.samples.Service;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link Injector#getSingleton} with a singleton that has already been created.
+ * Run with {@code -prof gc} to verify that no memory is allocated per lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GetSingletonBenchmark {
+
+    private Injector injector;
+
+    @Setup
+    public void createInjector() {
+        injector = new InjectorBuilder()
+            .addDefaultHandlers("ch.jalu.injector.benchmarks.samples")
+            .create();
+        injector.getSingleton(Service.class);
+    }
+
+    @Benchmark
+    public Service getKnownSingleton() {
+        return injector.getSingleton(Service.class);
+    }
+}
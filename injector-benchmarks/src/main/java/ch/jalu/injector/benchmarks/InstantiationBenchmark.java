@@ -0,0 +1,85 @@
+package ch.jalu.injector.benchmarks;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.benchmarks.samples.Repository;
+import ch.jalu.injector.benchmarks.samples.Service;
+import ch.jalu.injector.benchmarks.samples.Settings;
+import ch.jalu.injector.handlers.instantiation.Resolution;
+import ch.jalu.injector.handlers.instantiation.StandardInjectionProvider;
+import ch.jalu.injector.handlers.instantiation.StandardInstantiationStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link StandardInstantiationStrategy instantiation strategies} for request-scoped objects
+ * created with {@link Injector#newInstance}. The {@code instantiateWith} benchmarks measure the instantiation
+ * in isolation, i.e. without the overhead of resolving the dependencies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstantiationBenchmark {
+
+    @Param({"REFLECTION", "METHOD_HANDLES"})
+    private StandardInstantiationStrategy strategy;
+
+    private Injector injector;
+    private Resolution<Repository> repositoryResolution;
+    private Object[] repositoryArguments;
+    private Resolution<Service> serviceResolution;
+    private Object[] serviceArguments;
+
+    @Setup
+    public void createInjector() {
+        injector = new InjectorBuilder()
+            .addDefaultHandlers("ch.jalu.injector.benchmarks.samples", strategy)
+            .create();
+        // Create the singleton dependencies so that only the requested class is instantiated
+        injector.getSingleton(Service.class);
+
+        StandardInjectionProvider provider = new StandardInjectionProvider(strategy);
+        repositoryResolution = provider.safeGet(Repository.class);
+        repositoryArguments = new Object[]{ injector.getSingleton(Settings.class) };
+        serviceResolution = provider.safeGet(Service.class);
+        serviceArguments = new Object[]{ injector.getSingleton(Repository.class), injector.getSingleton(Settings.class) };
+    }
+
+    /** Request-scoped object with constructor injection. */
+    @Benchmark
+    public Repository newInstanceWithConstructorInjection() {
+        return injector.newInstance(Repository.class);
+    }
+
+    /** Request-scoped object with field injection. */
+    @Benchmark
+    public Service newInstanceWithFieldInjection() {
+        return injector.newInstance(Service.class);
+    }
+
+    /** Instantiation of an object with constructor injection, without any dependency resolution. */
+    @Benchmark
+    public Repository instantiateWithConstructorInjection() {
+        return repositoryResolution.instantiateWith(repositoryArguments);
+    }
+
+    /** Instantiation of an object with field injection, without any dependency resolution. */
+    @Benchmark
+    public Service instantiateWithFieldInjection() {
+        return serviceResolution.instantiateWith(serviceArguments);
+    }
+}
@@ -0,0 +1,67 @@
+package ch.jalu.injector.benchmarks;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.benchmarks.samples.Client;
+import ch.jalu.injector.benchmarks.samples.Connection;
+import ch.jalu.injector.benchmarks.samples.ConnectionProvider;
+import ch.jalu.injector.benchmarks.samples.Repository;
+import ch.jalu.injector.factory.Factory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.inject.Provider;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for objects created through injected {@link Provider} and {@link Factory} objects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProviderAndFactoryBenchmark {
+
+    private Provider<Repository> repositoryProvider;
+    private Provider<Connection> connectionProvider;
+    private Factory<Repository> repositoryFactory;
+
+    @Setup
+    public void createInjector() {
+        Injector injector = new InjectorBuilder()
+            .addDefaultHandlers("ch.jalu.injector.benchmarks.samples")
+            .create();
+        injector.registerProvider(Connection.class, ConnectionProvider.class);
+        Client client = injector.getSingleton(Client.class);
+        repositoryProvider = client.getRepositoryProvider();
+        connectionProvider = client.getConnectionProvider();
+        repositoryFactory = client.getRepositoryFactory();
+    }
+
+    /** Injected provider of a class without registered provider, creating new instances with the injector. */
+    @Benchmark
+    public Repository defaultProviderGet() {
+        return repositoryProvider.get();
+    }
+
+    /** Injected provider of a class with a registered provider class. */
+    @Benchmark
+    public Connection registeredProviderGet() {
+        return connectionProvider.get();
+    }
+
+    @Benchmark
+    public Repository factoryNewInstance() {
+        return repositoryFactory.newInstance(Repository.class);
+    }
+}
@@ -0,0 +1,133 @@
+package ch.jalu.injector.benchmarks;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.handlers.Handler;
+import ch.jalu.injector.handlers.dependency.CyclicDependenciesDetector;
+import ch.jalu.injector.handlers.instantiation.Resolution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ch.jalu.injector.context.StandardResolutionType.SINGLETON;
+
+/**
+ * Resolves a chain of dependencies of the given depth, with cycle detection. The links are not instantiations,
+ * so they are not stored as singletons and the entire chain is resolved by the handlers on every invocation.
+ * The time and memory per link in the chain should not grow with the depth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResolutionDepthBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int depth;
+
+    private Injector injector;
+
+    @Setup
+    public void createInjector() {
+        injector = new InjectorBuilder()
+            .addHandlers(new CyclicDependenciesDetector(), new ChainHandler(depth))
+            .create();
+    }
+
+    @Benchmark
+    public Link resolveChain() {
+        return injector.getSingleton(Link.class);
+    }
+
+    /**
+     * Element of the resolved chain.
+     */
+    public static final class Link {
+
+        private final Link next;
+
+        Link(Link next) {
+            this.next = next;
+        }
+
+        public Link getNext() {
+            return next;
+        }
+    }
+
+    /**
+     * Resolves {@link Link} to a chain of the given length. Each link is requested with its own type
+     * so that the cycle detection does not consider the chain to be cyclic.
+     */
+    private static final class ChainHandler implements Handler {
+
+        private final List<ObjectIdentifier>[] linkDependencies;
+
+        @SuppressWarnings("unchecked")
+        ChainHandler(int length) {
+            linkDependencies = new List[length];
+            for (int i = 0; i < length - 1; ++i) {
+                linkDependencies[i] = Collections.singletonList(new ObjectIdentifier(SINGLETON, new LinkType()));
+            }
+            linkDependencies[length - 1] = Collections.emptyList();
+        }
+
+        @Override
+        public Resolution<?> resolve(ResolutionContext context) {
+            if (context.getIdentifier().getTypeAsClass() != Link.class) {
+                return null;
+            }
+            final List<ObjectIdentifier> dependencies = linkDependencies[context.getDepth()];
+            return new Resolution<Link>() {
+                @Override
+                public List<ObjectIdentifier> getDependencies() {
+                    return dependencies;
+                }
+
+                @Override
+                public Link instantiateWith(Object... values) {
+                    return new Link(values.length == 0 ? null : (Link) values[0]);
+                }
+            };
+        }
+    }
+
+    /**
+     * Parameterized type for {@link Link} which is only equal to itself.
+     */
+    private static final class LinkType implements ParameterizedType {
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return new Type[0];
+        }
+
+        @Override
+        public Type getRawType() {
+            return Link.class;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return null;
+        }
+    }
+}
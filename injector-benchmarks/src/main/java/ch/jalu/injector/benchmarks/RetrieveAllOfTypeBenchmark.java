@@ -0,0 +1,59 @@
+package ch.jalu.injector.benchmarks;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.benchmarks.samples.Controller;
+import ch.jalu.injector.benchmarks.samples.plugins.CsvPlugin;
+import ch.jalu.injector.benchmarks.samples.plugins.JsonPlugin;
+import ch.jalu.injector.benchmarks.samples.plugins.Plugin;
+import ch.jalu.injector.benchmarks.samples.plugins.XmlPlugin;
+import ch.jalu.injector.benchmarks.samples.plugins.YamlPlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link Injector#retrieveAllOfType} on an injector with the sample singletons.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RetrieveAllOfTypeBenchmark {
+
+    private Injector injector;
+
+    @Setup
+    public void createInjector() {
+        injector = new InjectorBuilder()
+            .addDefaultHandlers("ch.jalu.injector.benchmarks.samples")
+            .create();
+        injector.getSingleton(Controller.class);
+        injector.getSingleton(CsvPlugin.class);
+        injector.getSingleton(JsonPlugin.class);
+        injector.getSingleton(XmlPlugin.class);
+        injector.getSingleton(YamlPlugin.class);
+    }
+
+    @Benchmark
+    public Collection<Plugin> retrieveAllPlugins() {
+        return injector.retrieveAllOfType(Plugin.class);
+    }
+
+    @Benchmark
+    public Collection<Object> retrieveAllObjects() {
+        return injector.retrieveAllOfType(Object.class);
+    }
+}
@@ -0,0 +1,45 @@
+package ch.jalu.injector.benchmarks;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.benchmarks.samples.Controller;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold construction of a singleton graph: every invocation creates a new injector and the singletons of the
+ * sample graph with it. {@link #createInjector} measures the creation of the injector alone as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SingletonGraphBenchmark {
+
+    @Benchmark
+    public Injector createInjector() {
+        return newInjector();
+    }
+
+    @Benchmark
+    public Controller createSingletonGraph() {
+        return newInjector().getSingleton(Controller.class);
+    }
+
+    private static Injector newInjector() {
+        return new InjectorBuilder()
+            .addDefaultHandlers("ch.jalu.injector.benchmarks.samples")
+            .create();
+    }
+}
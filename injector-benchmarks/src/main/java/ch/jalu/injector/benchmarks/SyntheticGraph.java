@@ -0,0 +1,115 @@
+package ch.jalu.injector.benchmarks;
+
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.handlers.Handler;
+import ch.jalu.injector.handlers.instantiation.Resolution;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static ch.jalu.injector.context.StandardResolutionType.REQUEST_SCOPED;
+
+/**
+ * Handler resolving {@link Node} to a tree of request-scoped nodes with the given width and depth: every node
+ * which is not a leaf depends on {@code width} nodes of the next level. The tree has {@code depth + 1} levels.
+ * Each dependency is requested with its own type so that the nodes are not considered to be cyclic.
+ */
+final class SyntheticGraph implements Handler {
+
+    private final List<ObjectIdentifier>[] dependenciesByLevel;
+
+    @SuppressWarnings("unchecked")
+    SyntheticGraph(int width, int depth) {
+        dependenciesByLevel = new List[depth + 1];
+        for (int level = 0; level < depth; ++level) {
+            List<ObjectIdentifier> dependencies = new ArrayList<>(width);
+            for (int i = 0; i < width; ++i) {
+                dependencies.add(new ObjectIdentifier(REQUEST_SCOPED, new NodeType()));
+            }
+            dependenciesByLevel[level] = dependencies;
+        }
+        dependenciesByLevel[depth] = Collections.emptyList();
+    }
+
+    /**
+     * Returns the number of nodes in a tree of the given dimensions.
+     *
+     * @param width the number of children per node
+     * @param depth the depth of the tree
+     * @return total number of nodes
+     */
+    static int countNodes(int width, int depth) {
+        int total = 0;
+        int nodesOfLevel = 1;
+        for (int level = 0; level <= depth; ++level) {
+            total += nodesOfLevel;
+            nodesOfLevel *= width;
+        }
+        return total;
+    }
+
+    @Override
+    public Resolution<?> resolve(ResolutionContext context) {
+        if (context.getIdentifier().getTypeAsClass() != Node.class) {
+            return null;
+        }
+        final List<ObjectIdentifier> dependencies = dependenciesByLevel[context.getDepth()];
+        return new Resolution<Node>() {
+            @Override
+            public List<ObjectIdentifier> getDependencies() {
+                return dependencies;
+            }
+
+            @Override
+            public Node instantiateWith(Object... values) {
+                return new Node(values);
+            }
+
+            @Override
+            public boolean isInstantiation() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Node of the tree.
+     */
+    public static final class Node {
+
+        private final Object[] children;
+
+        Node(Object[] children) {
+            this.children = children;
+        }
+
+        public Object[] getChildren() {
+            return children;
+        }
+    }
+
+    /**
+     * Parameterized type for {@link Node} which is only equal to itself.
+     */
+    private static final class NodeType implements ParameterizedType {
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return new Type[0];
+        }
+
+        @Override
+        public Type getRawType() {
+            return Node.class;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package ch.jalu.injector.benchmarks;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.benchmarks.SyntheticGraph.Node;
+import ch.jalu.injector.handlers.dependency.CyclicDependenciesDetector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates a tree of request-scoped objects of configurable width and depth (see {@link SyntheticGraph}).
+ * Set other dimensions with JMH's parameter option, e.g. {@code -p width=8 -p depth=3}.
+ * <p>
+ * {@link #newInstanceOfGraph} measures the creation of the tree with an injector which has already created it
+ * before, i.e. with the compiled resolution of the tree. {@link #newInstanceOfGraphWithNewInjector} includes
+ * the resolution of all nodes by the handlers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SyntheticGraphBenchmark {
+
+    @Param({"2", "4"})
+    private int width;
+
+    @Param({"2", "4", "6"})
+    private int depth;
+
+    private SyntheticGraph graph;
+    private Injector injector;
+
+    @Setup
+    public void createInjector() {
+        graph = new SyntheticGraph(width, depth);
+        injector = createInjector(graph);
+        injector.newInstance(Node.class);
+    }
+
+    @Benchmark
+    public Node newInstanceOfGraph() {
+        return injector.newInstance(Node.class);
+    }
+
+    @Benchmark
+    public Node newInstanceOfGraphWithNewInjector() {
+        return createInjector(graph).newInstance(Node.class);
+    }
+
+    private static Injector createInjector(SyntheticGraph graph) {
+        return new InjectorBuilder()
+            .addHandlers(new CyclicDependenciesDetector(), graph)
+            .create();
+    }
+}
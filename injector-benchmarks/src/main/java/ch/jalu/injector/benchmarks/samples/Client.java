@@ -0,0 +1,31 @@
+package ch.jalu.injector.benchmarks.samples;
+
+import ch.jalu.injector.factory.Factory;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+/**
+ * Sample - class with an injected provider and factory.
+ */
+public class Client {
+
+    @Inject
+    private Provider<Repository> repositoryProvider;
+    @Inject
+    private Provider<Connection> connectionProvider;
+    @Inject
+    private Factory<Repository> repositoryFactory;
+
+    public Provider<Repository> getRepositoryProvider() {
+        return repositoryProvider;
+    }
+
+    public Provider<Connection> getConnectionProvider() {
+        return connectionProvider;
+    }
+
+    public Factory<Repository> getRepositoryFactory() {
+        return repositoryFactory;
+    }
+}
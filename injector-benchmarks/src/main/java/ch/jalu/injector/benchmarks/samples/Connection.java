@@ -0,0 +1,17 @@
+package ch.jalu.injector.benchmarks.samples;
+
+/**
+ * Sample - class created by a provider (see {@link ConnectionProvider}).
+ */
+public class Connection {
+
+    private final Settings settings;
+
+    Connection(Settings settings) {
+        this.settings = settings;
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+}
@@ -0,0 +1,18 @@
+package ch.jalu.injector.benchmarks.samples;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+/**
+ * Sample - provider of {@link Connection}.
+ */
+public class ConnectionProvider implements Provider<Connection> {
+
+    @Inject
+    private Settings settings;
+
+    @Override
+    public Connection get() {
+        return new Connection(settings);
+    }
+}
@@ -0,0 +1,26 @@
+package ch.jalu.injector.benchmarks.samples;
+
+import javax.inject.Inject;
+
+/**
+ * Sample - top of the sample singleton graph, depending on classes with constructor and field injection.
+ */
+public class Controller {
+
+    private final Service service;
+    private final Repository repository;
+
+    @Inject
+    Controller(Service service, Repository repository) {
+        this.service = service;
+        this.repository = repository;
+    }
+
+    public Service getService() {
+        return service;
+    }
+
+    public Repository getRepository() {
+        return repository;
+    }
+}
@@ -0,0 +1,20 @@
+package ch.jalu.injector.benchmarks.samples;
+
+import javax.inject.Inject;
+
+/**
+ * Sample - constructor injection.
+ */
+public class Repository {
+
+    private final Settings settings;
+
+    @Inject
+    Repository(Settings settings) {
+        this.settings = settings;
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+}
@@ -0,0 +1,22 @@
+package ch.jalu.injector.benchmarks.samples;
+
+import javax.inject.Inject;
+
+/**
+ * Sample - field injection.
+ */
+public class Service {
+
+    @Inject
+    private Repository repository;
+    @Inject
+    private Settings settings;
+
+    public Repository getRepository() {
+        return repository;
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+}
@@ -0,0 +1,8 @@
+package ch.jalu.injector.benchmarks.samples;
+
+/**
+ * Sample - class without any dependencies.
+ */
+public class Settings {
+
+}
@@ -0,0 +1,8 @@
+package ch.jalu.injector.benchmarks.samples.plugins;
+
+/**
+ * Sample - interface with multiple implementations, for the {@code @AllInstances} and {@code @AllTypes} handlers.
+ */
+public interface Plugin {
+
+}
@@ -0,0 +1,28 @@
+package ch.jalu.injector.benchmarks.samples.plugins;
+
+import ch.jalu.injector.extras.AllInstances;
+import ch.jalu.injector.extras.AllTypes;
+
+import javax.inject.Inject;
+import java.util.Set;
+
+/**
+ * Sample - class with all instances and all types of {@link Plugin}.
+ */
+public class PluginRegistry {
+
+    @Inject
+    @AllInstances
+    private Plugin[] plugins;
+    @Inject
+    @AllTypes(Plugin.class)
+    private Set<Class<? extends Plugin>> pluginTypes;
+
+    public Plugin[] getPlugins() {
+        return plugins;
+    }
+
+    public Set<Class<? extends Plugin>> getPluginTypes() {
+        return pluginTypes;
+    }
+}
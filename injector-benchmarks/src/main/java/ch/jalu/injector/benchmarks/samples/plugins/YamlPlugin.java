@@ -0,0 +1,15 @@
+package ch.jalu.injector.benchmarks.samples.plugins;
+
+import ch.jalu.injector.benchmarks.samples.Settings;
+
+import javax.inject.Inject;
+
+/**
+ * Sample - plugin implementation.
+ */
+public class YamlPlugin implements Plugin {
+
+    @Inject
+    private Settings settings;
+
+}
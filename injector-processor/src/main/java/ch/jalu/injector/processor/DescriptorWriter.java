@@ -0,0 +1,201 @@
+package ch.jalu.injector.processor;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the source code of the injection descriptor of a class.
+ */
+final class DescriptorWriter {
+
+    /** Same as {@code InjectionDescriptors#CLASS_NAME_SUFFIX} in the injector. */
+    static final String CLASS_NAME_SUFFIX = "_InjectionDescriptor";
+
+    private static final String DESCRIPTOR_INTERFACE = "ch.jalu.injector.handlers.instantiation.InjectionDescriptor";
+    private static final String DESCRIPTORS_CLASS = "ch.jalu.injector.handlers.instantiation.InjectionDescriptors";
+    private static final String OBJECT_IDENTIFIER = "ch.jalu.injector.context.ObjectIdentifier";
+    private static final String SINGLETON = "ch.jalu.injector.context.StandardResolutionType.SINGLETON";
+
+    private final Elements elements;
+    private final Types types;
+
+    DescriptorWriter(Elements elements, Types types) {
+        this.elements = elements;
+        this.types = types;
+    }
+
+    /**
+     * Returns the fully qualified name of the descriptor class of the given class.
+     *
+     * @param type the class to get the descriptor name for
+     * @return the descriptor's class name
+     */
+    String getDescriptorClassName(TypeElement type) {
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        String simpleName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1);
+        return (packageName.isEmpty() ? "" : packageName + ".") + simpleName.replace('$', '_') + CLASS_NAME_SUFFIX;
+    }
+
+    /**
+     * Writes the descriptor of the given class.
+     *
+     * @param injectableClass the class to write the descriptor for
+     * @param writer the writer to write the source code to
+     */
+    void write(InjectableClass injectableClass, PrintWriter writer) {
+        final TypeElement type = injectableClass.getType();
+        final String typeName = type.getQualifiedName().toString();
+        final String descriptorName = getDescriptorClassName(type);
+        final int packageEnd = descriptorName.lastIndexOf('.');
+
+        if (packageEnd > 0) {
+            writer.println("package " + descriptorName.substring(0, packageEnd) + ";");
+            writer.println();
+        }
+        writer.println("/**");
+        writer.println(" * Injection descriptor of {@link " + typeName + "}.");
+        writer.println(" * Generated by " + InjectionDescriptorProcessor.class.getName() + ".");
+        writer.println(" */");
+        writer.println("public final class " + descriptorName.substring(packageEnd + 1)
+            + " implements " + DESCRIPTOR_INTERFACE + "<" + typeName + "> {");
+        writer.println();
+        writeGetDependencies(injectableClass, writer);
+        writer.println();
+        writeInstantiate(injectableClass, writer);
+        writer.println();
+        writeInvokePostConstruct(injectableClass, writer);
+        writer.println("}");
+    }
+
+    private void writeGetDependencies(InjectableClass injectableClass, PrintWriter writer) {
+        List<String> dependencies = new ArrayList<>();
+        List<? extends VariableElement> parameters = injectableClass.getConstructor().getParameters();
+        for (int i = 0; i < parameters.size(); ++i) {
+            dependencies.add(createParameterIdentifier(injectableClass, i));
+        }
+        for (VariableElement field : injectableClass.getFields()) {
+            dependencies.add(createFieldIdentifier(field));
+        }
+
+        writer.println("    @Override");
+        writer.println("    public java.util.List<" + OBJECT_IDENTIFIER + "> getDependencies() {");
+        if (dependencies.isEmpty()) {
+            writer.println("        return java.util.Collections.emptyList();");
+        } else {
+            writer.println("        return java.util.Collections.unmodifiableList(java.util.Arrays.asList(");
+            writer.println(dependencies.stream()
+                .map(dependency -> "            " + dependency)
+                .collect(Collectors.joining(",\n")) + "));");
+        }
+        writer.println("    }");
+    }
+
+    private void writeInstantiate(InjectableClass injectableClass, PrintWriter writer) {
+        final String typeName = injectableClass.getType().getQualifiedName().toString();
+        int index = 0;
+        List<String> arguments = new ArrayList<>();
+        for (VariableElement parameter : injectableClass.getConstructor().getParameters()) {
+            arguments.add("(" + parameter.asType() + ") values[" + index++ + "]");
+        }
+
+        writer.println("    @Override");
+        writer.println("    @SuppressWarnings(\"unchecked\")");
+        writer.println("    public " + typeName + " instantiate(Object[] values) throws Exception {");
+        writer.println("        " + typeName + " instance = new " + typeName + "("
+            + String.join(", ", arguments) + ");");
+        for (VariableElement field : injectableClass.getFields()) {
+            writer.println("        " + getMemberTarget(injectableClass, field) + "." + field.getSimpleName()
+                + " = (" + field.asType() + ") values[" + index++ + "];");
+        }
+        writer.println("        return instance;");
+        writer.println("    }");
+    }
+
+    private void writeInvokePostConstruct(InjectableClass injectableClass, PrintWriter writer) {
+        writer.println("    @Override");
+        writer.println("    public void invokePostConstruct(" + injectableClass.getType().getQualifiedName()
+            + " instance) throws Exception {");
+        for (ExecutableElement method : injectableClass.getPostConstructMethods()) {
+            writer.println("        " + getMemberTarget(injectableClass, method) + "." + method.getSimpleName()
+                + "();");
+        }
+        writer.println("    }");
+    }
+
+    /**
+     * Returns the expression to access the given member on the instance with. Members of parents are accessed
+     * on the instance cast to the parent, as they might be hidden by a member of the same name in a subclass.
+     *
+     * @param injectableClass the class the descriptor is generated for
+     * @param member the member to access
+     * @return the expression to use as target for the member
+     */
+    private static String getMemberTarget(InjectableClass injectableClass, Element member) {
+        TypeElement declaringType = (TypeElement) member.getEnclosingElement();
+        return declaringType.equals(injectableClass.getType())
+            ? "instance"
+            : "((" + declaringType.getQualifiedName() + ") instance)";
+    }
+
+    private String createParameterIdentifier(InjectableClass injectableClass, int index) {
+        ExecutableElement constructor = injectableClass.getConstructor();
+        VariableElement parameter = constructor.getParameters().get(index);
+        if (parameter.getAnnotationMirrors().isEmpty() && isClassLiteralType(parameter.asType())) {
+            return createSimpleIdentifier(parameter.asType());
+        }
+        // Annotations and generic types are only available via reflection
+        String parameterTypes = constructor.getParameters().stream()
+            .map(param -> ", " + toClassLiteral(param.asType()))
+            .collect(Collectors.joining());
+        return DESCRIPTORS_CLASS + ".constructorParameterIdentifier("
+            + injectableClass.getType().getQualifiedName() + ".class, " + index + parameterTypes + ")";
+    }
+
+    private String createFieldIdentifier(VariableElement field) {
+        boolean hasOtherAnnotations = field.getAnnotationMirrors().size() > 1
+            || !InjectableClassAnalyzer.hasAnnotation(field, InjectableClassAnalyzer.INJECT);
+        if (!hasOtherAnnotations && isClassLiteralType(field.asType())) {
+            return createSimpleIdentifier(field.asType());
+        }
+        return DESCRIPTORS_CLASS + ".fieldIdentifier("
+            + ((TypeElement) field.getEnclosingElement()).getQualifiedName() + ".class, \""
+            + field.getSimpleName() + "\")";
+    }
+
+    private String createSimpleIdentifier(TypeMirror type) {
+        return "new " + OBJECT_IDENTIFIER + "(" + SINGLETON + ", " + toClassLiteral(type) + ")";
+    }
+
+    private String toClassLiteral(TypeMirror type) {
+        return types.erasure(type) + ".class";
+    }
+
+    /**
+     * Returns whether the given type is fully described by its class literal, i.e. whether it has no
+     * generic type arguments.
+     *
+     * @param type the type to check
+     * @return true if the type corresponds to its class literal, false otherwise
+     */
+    private static boolean isClassLiteralType(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isClassLiteralType(((ArrayType) type).getComponentType());
+        } else if (type.getKind() == TypeKind.DECLARED) {
+            return ((DeclaredType) type).getTypeArguments().isEmpty();
+        }
+        return type.getKind().isPrimitive();
+    }
+}
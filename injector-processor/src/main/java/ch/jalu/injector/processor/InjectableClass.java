@@ -0,0 +1,49 @@
+package ch.jalu.injector.processor;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import java.util.List;
+
+/**
+ * Class for which an injection descriptor can be generated, with the members relevant for its injection.
+ */
+final class InjectableClass {
+
+    private final TypeElement type;
+    private final ExecutableElement constructor;
+    private final List<VariableElement> fields;
+    private final List<ExecutableElement> postConstructMethods;
+
+    /**
+     * Constructor.
+     *
+     * @param type the class
+     * @param constructor the constructor to instantiate the class with
+     * @param fields the fields to inject, in the order the injector processes them
+     * @param postConstructMethods the {@code @PostConstruct} methods, starting with the top-most parent
+     */
+    InjectableClass(TypeElement type, ExecutableElement constructor, List<VariableElement> fields,
+                    List<ExecutableElement> postConstructMethods) {
+        this.type = type;
+        this.constructor = constructor;
+        this.fields = fields;
+        this.postConstructMethods = postConstructMethods;
+    }
+
+    TypeElement getType() {
+        return type;
+    }
+
+    ExecutableElement getConstructor() {
+        return constructor;
+    }
+
+    List<VariableElement> getFields() {
+        return fields;
+    }
+
+    List<ExecutableElement> getPostConstructMethods() {
+        return postConstructMethods;
+    }
+}
@@ -0,0 +1,221 @@
+package ch.jalu.injector.processor;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Determines the members of a class relevant for injection in the same way as the injector's
+ * {@code StandardInjectionProvider} and {@code PostConstructMethodInvoker} do with reflection.
+ * <p>
+ * Classes are rejected if generated code cannot access all of their relevant members from the class' package,
+ * or if a standard injection provider would reject them. Such classes are processed with reflection at runtime,
+ * which also reports the errors in invalid classes.
+ */
+final class InjectableClassAnalyzer {
+
+    static final String INJECT = "javax.inject.Inject";
+    static final String POST_CONSTRUCT = "javax.annotation.PostConstruct";
+    private static final String NO_FIELD_SCAN = "ch.jalu.injector.annotations.NoFieldScan";
+    private static final String NO_METHOD_SCAN = "ch.jalu.injector.annotations.NoMethodScan";
+
+    private final Elements elements;
+
+    InjectableClassAnalyzer(Elements elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Returns the injection members of the given class, or null if no descriptor can be generated for it.
+     *
+     * @param type the class to process
+     * @return the class' injection members, or null if not supported
+     */
+    InjectableClass analyze(TypeElement type) {
+        if (!isInstantiableClass(type)) {
+            return null;
+        }
+        final PackageElement typePackage = elements.getPackageOf(type);
+
+        List<VariableElement> fields = new ArrayList<>();
+        List<ExecutableElement> postConstructMethods = new ArrayList<>();
+        TypeElement currentType = type;
+        while (currentType != null) {
+            if (!hasAnnotation(currentType, NO_FIELD_SCAN)) {
+                for (VariableElement field : ElementFilter.fieldsIn(currentType.getEnclosedElements())) {
+                    if (hasAnnotation(field, INJECT)) {
+                        if (!isValidField(field, typePackage)) {
+                            return null;
+                        }
+                        fields.add(field);
+                    }
+                }
+            }
+            if (!hasAnnotation(currentType, NO_METHOD_SCAN) && !collectPostConstructMethod(
+                currentType, typePackage, postConstructMethods)) {
+                return null;
+            }
+            currentType = getSuperclass(currentType);
+        }
+        Collections.reverse(postConstructMethods);
+
+        ExecutableElement constructor = getInjectionConstructor(type, fields);
+        if (constructor == null || !isAccessible(constructor, typePackage)
+            || !constructor.getParameters().stream().allMatch(p -> isUsableType(p.asType(), typePackage))) {
+            return null;
+        }
+        if (hasAnnotation(constructor, INJECT) && fields.stream().anyMatch(f -> f.getEnclosingElement() == type)) {
+            // Not allowed by DefaultInjectionProvider
+            return null;
+        }
+        return new InjectableClass(type, constructor, fields, postConstructMethods);
+    }
+
+    private boolean isInstantiableClass(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)
+            || !type.getTypeParameters().isEmpty()) {
+            return false;
+        }
+        boolean isStaticOrTopLevel = type.getNestingKind() == NestingKind.TOP_LEVEL
+            || type.getNestingKind() == NestingKind.MEMBER && type.getModifiers().contains(Modifier.STATIC);
+        return isStaticOrTopLevel && isAccessible(type, elements.getPackageOf(type));
+    }
+
+    private boolean isValidField(VariableElement field, PackageElement typePackage) {
+        return !field.getModifiers().contains(Modifier.STATIC) && !field.getModifiers().contains(Modifier.FINAL)
+            && isAccessible(field, typePackage) && isUsableType(field.asType(), typePackage);
+    }
+
+    /**
+     * Adds the {@code @PostConstruct} method of the given class to the list, if present.
+     *
+     * @param type the class to process
+     * @param typePackage the package of the class the descriptor is generated for
+     * @param postConstructMethods the list to add the method to
+     * @return true if the class is valid, false if it has an invalid or inaccessible {@code @PostConstruct} method
+     */
+    private boolean collectPostConstructMethod(TypeElement type, PackageElement typePackage,
+                                               List<ExecutableElement> postConstructMethods) {
+        ExecutableElement postConstructMethod = null;
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (hasAnnotation(method, INJECT)) {
+                return false;
+            } else if (hasAnnotation(method, POST_CONSTRUCT)) {
+                if (postConstructMethod != null || !method.getParameters().isEmpty()
+                    || method.getModifiers().contains(Modifier.STATIC)
+                    || method.getReturnType().getKind() != TypeKind.VOID || !isAccessible(method, typePackage)) {
+                    return false;
+                }
+                postConstructMethod = method;
+            }
+        }
+        if (postConstructMethod != null) {
+            postConstructMethods.add(postConstructMethod);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the constructor to instantiate the class with, following the same rules as the
+     * {@code StandardInjectionProvider}.
+     *
+     * @param type the class to process
+     * @param fields the fields to inject
+     * @return the constructor, or null if not applicable
+     */
+    private ExecutableElement getInjectionConstructor(TypeElement type, List<VariableElement> fields) {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        if (constructors.size() == 1 && constructors.get(0).getParameters().isEmpty()) {
+            return constructors.get(0);
+        }
+
+        ExecutableElement injectConstructor = null;
+        for (ExecutableElement constructor : constructors) {
+            if (hasAnnotation(constructor, INJECT)) {
+                if (injectConstructor != null) {
+                    return null;
+                }
+                injectConstructor = constructor;
+            }
+        }
+        if (injectConstructor == null && fields.stream().anyMatch(f -> f.getEnclosingElement() == type)) {
+            return constructors.stream()
+                .filter(constructor -> constructor.getParameters().isEmpty())
+                .findFirst().orElse(null);
+        }
+        return injectConstructor;
+    }
+
+    /**
+     * Returns whether the given element can be accessed from a class in the given package.
+     *
+     * @param element the element to check
+     * @param packageElement the package to access the element from
+     * @return true if accessible, false otherwise
+     */
+    private boolean isAccessible(Element element, PackageElement packageElement) {
+        if (element.getModifiers().contains(Modifier.PRIVATE) || !element.getModifiers().contains(Modifier.PUBLIC)
+            && !elements.getPackageOf(element).equals(packageElement)) {
+            return false;
+        }
+        Element enclosingElement = element.getEnclosingElement();
+        return enclosingElement.getKind() == ElementKind.PACKAGE || isAccessible(enclosingElement, packageElement);
+    }
+
+    /**
+     * Returns whether the given type can be referenced in generated code in the given package.
+     *
+     * @param type the type to check
+     * @param packageElement the package of the generated code
+     * @return true if the type can be used, false otherwise
+     */
+    private boolean isUsableType(TypeMirror type, PackageElement packageElement) {
+        if (type.getKind().isPrimitive()) {
+            return true;
+        }
+        switch (type.getKind()) {
+            case ARRAY:
+                return isUsableType(((ArrayType) type).getComponentType(), packageElement);
+            case DECLARED:
+                DeclaredType declaredType = (DeclaredType) type;
+                return isAccessible(declaredType.asElement(), packageElement)
+                    && declaredType.getTypeArguments().stream().allMatch(arg -> isUsableType(arg, packageElement));
+            case WILDCARD:
+                WildcardType wildcardType = (WildcardType) type;
+                TypeMirror bound = wildcardType.getExtendsBound() != null
+                    ? wildcardType.getExtendsBound()
+                    : wildcardType.getSuperBound();
+                return bound == null || isUsableType(bound, packageElement);
+            default:
+                return false;
+        }
+    }
+
+    private static TypeElement getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED
+            ? (TypeElement) ((DeclaredType) superclass).asElement()
+            : null;
+    }
+
+    static boolean hasAnnotation(Element element, String annotationName) {
+        return element.getAnnotationMirrors().stream().anyMatch(annotation ->
+            ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName()
+                .contentEquals(annotationName));
+    }
+}
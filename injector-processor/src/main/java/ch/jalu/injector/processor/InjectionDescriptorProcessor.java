@@ -0,0 +1,81 @@
+package ch.jalu.injector.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Annotation processor generating an injection descriptor for each class with {@code @Inject} or
+ * {@code @PostConstruct} members. If configured with an instantiation strategy which uses injection descriptors
+ * (e.g. {@code StandardInstantiationStrategy.GENERATED}), the injector uses the descriptors instead of reflection
+ * to determine the dependencies of a class, to instantiate it and to run its {@code @PostConstruct} methods.
+ * <p>
+ * Classes whose relevant members cannot be accessed by generated code (e.g. private fields) or which are
+ * invalid do not get a descriptor; the injector handles them with reflection as before.
+ */
+@SupportedAnnotationTypes({InjectableClassAnalyzer.INJECT, InjectableClassAnalyzer.POST_CONSTRUCT})
+public class InjectionDescriptorProcessor extends AbstractProcessor {
+
+    private final Set<String> processedClasses = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        InjectableClassAnalyzer analyzer = new InjectableClassAnalyzer(processingEnv.getElementUtils());
+        DescriptorWriter descriptorWriter =
+            new DescriptorWriter(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+
+        for (TypeElement type : collectClasses(annotations, roundEnv)) {
+            if (processedClasses.add(type.getQualifiedName().toString())) {
+                InjectableClass injectableClass = analyzer.analyze(type);
+                if (injectableClass != null) {
+                    writeDescriptor(injectableClass, descriptorWriter);
+                }
+            }
+        }
+        // Other processors may also handle @Inject
+        return false;
+    }
+
+    private static Set<TypeElement> collectClasses(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> classes = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                Element enclosingElement = element.getEnclosingElement();
+                if (enclosingElement != null && enclosingElement.getKind() == ElementKind.CLASS) {
+                    classes.add((TypeElement) enclosingElement);
+                }
+            }
+        }
+        return classes;
+    }
+
+    private void writeDescriptor(InjectableClass injectableClass, DescriptorWriter descriptorWriter) {
+        String descriptorName = descriptorWriter.getDescriptorClassName(injectableClass.getType());
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler()
+                .createSourceFile(descriptorName, injectableClass.getType());
+            try (PrintWriter writer = new PrintWriter(sourceFile.openWriter())) {
+                descriptorWriter.write(injectableClass, writer);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Could not write injection descriptor " + descriptorName + ": " + e, injectableClass.getType());
+        }
+    }
+}
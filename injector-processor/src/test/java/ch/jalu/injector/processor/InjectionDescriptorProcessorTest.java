@@ -0,0 +1,148 @@
+package ch.jalu.injector.processor;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.exceptions.InjectorReflectionException;
+import ch.jalu.injector.handlers.instantiation.DefaultInjectionProvider;
+import ch.jalu.injector.handlers.instantiation.InjectionDescriptor;
+import ch.jalu.injector.handlers.instantiation.InjectionDescriptors;
+import ch.jalu.injector.handlers.instantiation.Resolution;
+import ch.jalu.injector.handlers.instantiation.StandardInjection;
+import ch.jalu.injector.handlers.instantiation.StandardInstantiationStrategy;
+import ch.jalu.injector.processor.samples.Configuration;
+import ch.jalu.injector.processor.samples.FailingService;
+import ch.jalu.injector.processor.samples.Outer;
+import ch.jalu.injector.processor.samples.PrivateFieldService;
+import ch.jalu.injector.processor.samples.Repository;
+import ch.jalu.injector.processor.samples.Timeout;
+import ch.jalu.injector.processor.samples.UserService;
+import org.junit.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.List;
+
+import static ch.jalu.injector.context.StandardResolutionType.SINGLETON;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Test for {@link InjectionDescriptorProcessor}. The test samples are compiled with the processor.
+ */
+public class InjectionDescriptorProcessorTest {
+
+    private static final String SAMPLES_PACKAGE = "ch.jalu.injector.processor.samples";
+
+    @Test
+    public void shouldGenerateDescriptorsForSupportedClasses() {
+        // given / when / then
+        assertThat(InjectionDescriptors.find(Repository.class), not(nullValue()));
+        assertThat(InjectionDescriptors.find(UserService.class), not(nullValue()));
+        assertThat(InjectionDescriptors.find(Outer.Nested.class), not(nullValue()));
+        assertThat(InjectionDescriptors.find(FailingService.class), not(nullValue()));
+
+        assertThat(InjectionDescriptors.find(PrivateFieldService.class), nullValue());
+        assertThat(InjectionDescriptors.find(Configuration.class), nullValue());
+    }
+
+    @Test
+    public void shouldDescribeSameDependenciesAsReflection() throws NoSuchMethodException {
+        // given
+        Constructor<Repository> constructor = (Constructor<Repository>) Repository.class.getDeclaredConstructors()[0];
+        List<ObjectIdentifier> reflectiveDependencies =
+            new StandardInjection<>(constructor, Collections.emptyList()).getDependencies();
+
+        // when
+        List<ObjectIdentifier> dependencies = InjectionDescriptors.find(Repository.class).getDependencies();
+
+        // then
+        assertThat(dependencies, hasSize(3));
+        for (int i = 0; i < dependencies.size(); ++i) {
+            assertThat(dependencies.get(i).getType(), equalTo(reflectiveDependencies.get(i).getType()));
+            assertThat(dependencies.get(i).getAnnotations(), equalTo(reflectiveDependencies.get(i).getAnnotations()));
+        }
+    }
+
+    @Test
+    public void shouldInstantiateWithDescriptor() {
+        // given
+        DefaultInjectionProvider provider =
+            new DefaultInjectionProvider(SAMPLES_PACKAGE, StandardInstantiationStrategy.GENERATED);
+
+        // when
+        Resolution<?> userServiceResolution = provider.resolve(newContext(UserService.class));
+        Resolution<?> privateFieldServiceResolution = provider.resolve(newContext(PrivateFieldService.class));
+
+        // then
+        assertThat(userServiceResolution, not(instanceOf(StandardInjection.class)));
+        assertThat(userServiceResolution.getDependencies(), hasSize(2));
+        assertThat(privateFieldServiceResolution, instanceOf(StandardInjection.class));
+    }
+
+    @Test
+    public void shouldCreateObjectGraph() {
+        // given
+        Injector injector = new InjectorBuilder()
+            .addDefaultHandlers(SAMPLES_PACKAGE, StandardInstantiationStrategy.GENERATED)
+            .create();
+        injector.provide(Timeout.class, 30);
+
+        // when
+        Outer.Nested nested = injector.getSingleton(Outer.Nested.class);
+        PrivateFieldService privateFieldService = injector.getSingleton(PrivateFieldService.class);
+
+        // then
+        UserService userService = nested.getUserService();
+        assertThat(userService, sameInstance(injector.getSingleton(UserService.class)));
+        assertThat(userService.getInitializations(), contains("base", "user"));
+        Configuration configuration = injector.getSingleton(Configuration.class);
+        assertThat(userService.getConfiguration(), sameInstance(configuration));
+        Repository repository = userService.getRepository();
+        assertThat(repository.getConfiguration(), sameInstance(configuration));
+        assertThat(repository.getConfigurationProvider().get(), not(nullValue()));
+        assertThat(repository.getTimeout(), equalTo(30));
+        assertThat(privateFieldService.getRepository(), sameInstance(repository));
+    }
+
+    @Test
+    public void shouldWrapExceptionFromPostConstructMethod() {
+        // given
+        Injector injector = new InjectorBuilder().addDefaultHandlers(SAMPLES_PACKAGE).create();
+
+        // when / then
+        try {
+            injector.getSingleton(FailingService.class);
+            fail("Expected exception to be thrown");
+        } catch (InjectorReflectionException e) {
+            assertThat(e.getCause(), instanceOf(InvocationTargetException.class));
+            assertThat(e.getCause().getCause(), instanceOf(IllegalStateException.class));
+        }
+    }
+
+    @Test
+    public void shouldRunPostConstructMethodsOfParentsFirst() throws Exception {
+        // given
+        InjectionDescriptor<UserService> descriptor = InjectionDescriptors.find(UserService.class);
+        UserService userService = descriptor.instantiate(new Object[]{ null, null });
+
+        // when
+        descriptor.invokePostConstruct(userService);
+
+        // then
+        assertThat(userService.getInitializations(), contains("base", "user"));
+    }
+
+    private static ResolutionContext newContext(Class<?> clazz) {
+        return new ResolutionContext(null, new ObjectIdentifier(SINGLETON, clazz));
+    }
+}
@@ -0,0 +1,29 @@
+package ch.jalu.injector.processor.samples;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parent with field injection and a {@code @PostConstruct} method.
+ */
+public abstract class BaseService {
+
+    @Inject
+    Configuration configuration;
+    protected final List<String> initializations = new ArrayList<>();
+
+    @PostConstruct
+    void initBase() {
+        initializations.add("base");
+    }
+
+    public Configuration getConfiguration() {
+        return configuration;
+    }
+
+    public List<String> getInitializations() {
+        return initializations;
+    }
+}
@@ -0,0 +1,7 @@
+package ch.jalu.injector.processor.samples;
+
+/**
+ * Sample without any injection annotations (no descriptor is generated).
+ */
+public class Configuration {
+}
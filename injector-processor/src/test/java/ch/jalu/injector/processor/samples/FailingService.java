@@ -0,0 +1,14 @@
+package ch.jalu.injector.processor.samples;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * Sample whose {@code @PostConstruct} method throws an exception.
+ */
+public class FailingService {
+
+    @PostConstruct
+    void fail() throws Exception {
+        throw new IllegalStateException("Failing on purpose");
+    }
+}
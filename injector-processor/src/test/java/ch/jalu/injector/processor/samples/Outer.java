@@ -0,0 +1,26 @@
+package ch.jalu.injector.processor.samples;
+
+import javax.inject.Inject;
+
+/**
+ * Contains a nested class with injection.
+ */
+public final class Outer {
+
+    private Outer() {
+    }
+
+    public static final class Nested {
+
+        private final UserService userService;
+
+        @Inject
+        Nested(UserService userService) {
+            this.userService = userService;
+        }
+
+        public UserService getUserService() {
+            return userService;
+        }
+    }
+}
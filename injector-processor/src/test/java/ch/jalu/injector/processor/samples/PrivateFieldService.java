@@ -0,0 +1,16 @@
+package ch.jalu.injector.processor.samples;
+
+import javax.inject.Inject;
+
+/**
+ * Sample with a private field, which cannot be set by generated code (no descriptor is generated).
+ */
+public class PrivateFieldService {
+
+    @Inject
+    private Repository repository;
+
+    public Repository getRepository() {
+        return repository;
+    }
+}
@@ -0,0 +1,33 @@
+package ch.jalu.injector.processor.samples;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+/**
+ * Sample with constructor injection, including a generic type and an annotated parameter.
+ */
+public class Repository {
+
+    private final Configuration configuration;
+    private final Provider<Configuration> configurationProvider;
+    private final int timeout;
+
+    @Inject
+    Repository(Configuration configuration, Provider<Configuration> configurationProvider, @Timeout int timeout) {
+        this.configuration = configuration;
+        this.configurationProvider = configurationProvider;
+        this.timeout = timeout;
+    }
+
+    public Configuration getConfiguration() {
+        return configuration;
+    }
+
+    public Provider<Configuration> getConfigurationProvider() {
+        return configurationProvider;
+    }
+
+    public int getTimeout() {
+        return timeout;
+    }
+}
@@ -0,0 +1,11 @@
+package ch.jalu.injector.processor.samples;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * Custom annotation for a value registered in the injector.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Timeout {
+}
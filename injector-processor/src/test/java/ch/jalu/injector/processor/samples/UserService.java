@@ -0,0 +1,22 @@
+package ch.jalu.injector.processor.samples;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+
+/**
+ * Sample with field injection and {@code @PostConstruct} methods in the class and its parent.
+ */
+public class UserService extends BaseService {
+
+    @Inject
+    Repository repository;
+
+    @PostConstruct
+    void init() {
+        initializations.add("user");
+    }
+
+    public Repository getRepository() {
+        return repository;
+    }
+}
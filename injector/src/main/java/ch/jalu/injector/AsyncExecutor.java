@@ -0,0 +1,53 @@
+package ch.jalu.injector;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides the executor used by {@link Injector#getSingletonAsync(Class)}.
+ */
+final class AsyncExecutor {
+
+    private AsyncExecutor() {
+    }
+
+    /**
+     * Returns the default executor for asynchronous resolutions. Creates a virtual thread per task if the JVM
+     * supports it (Java 21 or newer); otherwise, tasks are run on a shared pool of daemon threads which grows
+     * as needed, so that tasks blocking on I/O do not prevent other tasks from being run.
+     *
+     * @return the default executor
+     */
+    static Executor getDefault() {
+        return Holder.EXECUTOR;
+    }
+
+    private static Executor createExecutor() {
+        try {
+            Method factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (Executor) factoryMethod.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            // Virtual threads are not available (or are a preview feature which is not enabled)
+        }
+        return Executors.newCachedThreadPool(new DaemonThreadFactory());
+    }
+
+    private static final class Holder {
+        private static final Executor EXECUTOR = createExecutor();
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "injector-async-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package ch.jalu.injector;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Singletons of a child injector: singletons of the parent injector are looked up in the parent's map directly,
+ * while singletons registered with the child are kept in a separate map. {@link Injector} is mapped to the child
+ * injector without storing it, so that creating a child injector does not require any map entries.
+ *
+ * @see InjectorImpl#createChildInjector
+ */
+final class ChildSingletonMap extends AbstractMap<Class<?>, Object> {
+
+    private final Map<Class<?>, Object> parentObjects;
+    private final Map<Class<?>, Object> ownObjects;
+    private final Injector childInjector;
+
+    /**
+     * Constructor.
+     *
+     * @param parentObjects the singletons of the parent injector
+     * @param ownObjects the map to keep the singletons of the child in
+     * @param childInjector the child injector
+     */
+    ChildSingletonMap(Map<Class<?>, Object> parentObjects, Map<Class<?>, Object> ownObjects,
+                      Injector childInjector) {
+        this.parentObjects = parentObjects;
+        this.ownObjects = ownObjects;
+        this.childInjector = childInjector;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key == Injector.class) {
+            return childInjector;
+        }
+        Object object = ownObjects.get(key);
+        return object == null ? parentObjects.get(key) : object;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key == Injector.class || ownObjects.containsKey(key) || parentObjects.containsKey(key);
+    }
+
+    @Override
+    public Object put(Class<?> key, Object value) {
+        return ownObjects.put(key, value);
+    }
+
+    @Override
+    public Object putIfAbsent(Class<?> key, Object value) {
+        Object existingObject = key == Injector.class ? childInjector : parentObjects.get(key);
+        return existingObject == null ? ownObjects.putIfAbsent(key, value) : existingObject;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return ownObjects.remove(key);
+    }
+
+    /**
+     * Returns a snapshot of all singletons of the parent and the child. Not intended for frequent use.
+     *
+     * @return entries of all singletons (unmodifiable)
+     */
+    @Override
+    public Set<Entry<Class<?>, Object>> entrySet() {
+        Map<Class<?>, Object> allObjects = new HashMap<>(parentObjects);
+        allObjects.putAll(ownObjects);
+        allObjects.put(Injector.class, childInjector);
+        return Collections.unmodifiableMap(allObjects).entrySet();
+    }
+}
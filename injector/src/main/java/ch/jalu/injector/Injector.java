@@ -1,9 +1,13 @@
 package ch.jalu.injector;
 
+import ch.jalu.injector.exceptions.InjectorException;
+
 import javax.annotation.Nullable;
 import javax.inject.Provider;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Dependency injector.
@@ -107,6 +111,8 @@ public interface Injector {
      * Returns all known singletons of the given type. Typically used
      * with interfaces in order to perform an action without knowing its concrete implementors.
      * Trivially, using {@link Object} as {@code clazz} will return all known singletons.
+     * <p>
+     * The returned collection is unmodifiable and does not reflect singletons registered afterwards.
      *
      * @param clazz the class to retrieve singletons of
      * @param <T> the class' type
@@ -115,4 +121,80 @@ public interface Injector {
      */
     <T> Collection<T> retrieveAllOfType(Class<T> clazz);
 
-}
\ No newline at end of file
+    /**
+     * Creates the singletons of the given classes and all singletons they depend on. Singletons which do not
+     * depend on each other are created in parallel on the given executor, such as a
+     * {@link java.util.concurrent.ForkJoinPool}. A singleton is only created once all singletons it depends on
+     * exist, and {@code @PostConstruct} methods are run as usual. This method returns once all singletons have
+     * been created.
+     * <p>
+     * The injector must be concurrent (see {@link InjectorBuilder#setConcurrent}). If singletons cannot be created,
+     * an exception listing each failure with the path of dependencies leading to it is thrown once all other
+     * singletons have been processed; singletons depending on a failed singleton are not created.
+     * <p>
+     * The default implementation ignores the executor and creates the singletons one after the other
+     * with {@link #getSingleton}.
+     *
+     * @param classes the classes to create singletons of
+     * @param executor the executor to create the singletons on
+     * @since 0.5
+     */
+    default void initializeSingletons(Collection<? extends Class<?>> classes, Executor executor) {
+        for (Class<?> clazz : classes) {
+            getSingleton(clazz);
+        }
+    }
+
+    /**
+     * Asynchronously retrieves or instantiates an object of the given type (singleton scope). The singleton and
+     * all singletons it depends on are created as with {@link #initializeSingletons}, independent singletons
+     * being created in parallel. The returned future completes once the singleton has been created.
+     * <p>
+     * Singletons are created on virtual threads if the JVM supports them, otherwise on a shared pool of daemon
+     * threads. The injector must be concurrent (see {@link InjectorBuilder#setConcurrent}).
+     *
+     * @param clazz the class to retrieve the value for
+     * @param <T> the class' type
+     * @return future of the object of the class' type
+     * @since 0.5
+     */
+    default <T> CompletableFuture<T> getSingletonAsync(Class<T> clazz) {
+        return getSingletonAsync(clazz, AsyncExecutor.getDefault());
+    }
+
+    /**
+     * Asynchronously retrieves or instantiates an object of the given type (singleton scope), creating the
+     * singleton and all singletons it depends on with the given executor. See {@link #getSingletonAsync(Class)}.
+     * <p>
+     * The default implementation retrieves the singleton with {@link #getSingleton} in a single task
+     * on the executor.
+     *
+     * @param clazz the class to retrieve the value for
+     * @param executor the executor to create the singletons on
+     * @param <T> the class' type
+     * @return future of the object of the class' type
+     * @since 0.5
+     */
+    default <T> CompletableFuture<T> getSingletonAsync(Class<T> clazz, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> getSingleton(clazz), executor);
+    }
+
+    /**
+     * Creates a child injector, e.g. to resolve the objects of a single request. The child returns all singletons
+     * of this injector without copying them and shares this injector's handlers and compiled resolutions, so it is
+     * cheap to create and discard.
+     * <p>
+     * Objects registered with the child and singletons created by the child are only known to the child. Singletons
+     * created by this injector afterwards are also visible to the child. Providers and annotation values cannot
+     * be registered with a child injector, as they are kept by the shared handlers.
+     * <p>
+     * The default implementation throws an exception, as child injectors are not supported.
+     *
+     * @return the child injector
+     * @since 0.5
+     */
+    default Injector createChildInjector() {
+        throw new InjectorException("Child injectors are not supported by " + getClass().getName());
+    }
+
+}
@@ -6,10 +6,16 @@ import ch.jalu.injector.handlers.dependency.FactoryDependencyHandler;
 import ch.jalu.injector.handlers.dependency.SavedAnnotationsHandler;
 import ch.jalu.injector.handlers.dependency.SingletonStoreDependencyHandler;
 import ch.jalu.injector.handlers.instantiation.DefaultInjectionProvider;
+import ch.jalu.injector.handlers.instantiation.InstantiationStrategy;
+import ch.jalu.injector.handlers.instantiation.LazyHandler;
+import ch.jalu.injector.handlers.instantiation.StandardInstantiationStrategy;
 import ch.jalu.injector.handlers.postconstruct.PostConstructMethodInvoker;
 import ch.jalu.injector.handlers.instantiation.ProviderHandler;
+import ch.jalu.injector.monitor.ResolutionMetrics;
+import ch.jalu.injector.monitor.ResolutionMonitor;
 import ch.jalu.injector.utils.InjectorUtils;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -37,19 +43,35 @@ public class InjectorBuilder {
      * @see #addDefaultHandlers(String)
      */
     public static List<Handler> createDefaultHandlers(String rootPackage) {
+        return createDefaultHandlers(rootPackage, StandardInstantiationStrategy.REFLECTION);
+    }
+
+    /**
+     * Returns all handlers that are added to the injector by default, instantiating classes with
+     * the given strategy.
+     *
+     * @param rootPackage the root package of the project (to limit injection and scanning to)
+     * @param instantiationStrategy the strategy with which classes should be instantiated
+     * @return all default handlers
+     * @see #addDefaultHandlers(String, InstantiationStrategy)
+     */
+    public static List<Handler> createDefaultHandlers(String rootPackage,
+                                                      InstantiationStrategy instantiationStrategy) {
         InjectorUtils.checkNotNull(rootPackage, "root package may not be null");
+        InjectorUtils.checkNotNull(instantiationStrategy, "instantiation strategy may not be null");
         return new ArrayList<>(Arrays.asList(
             // (Annotation, Object) handler
             new SavedAnnotationsHandler(),
-            // Provider / Factory / SingletonStore
+            // Lazy / Provider / Factory / SingletonStore
+            new LazyHandler(),
             new ProviderHandler(),
             new FactoryDependencyHandler(),
             new SingletonStoreDependencyHandler(),
             // Instantiation provider
             new CyclicDependenciesDetector(),
-            new DefaultInjectionProvider(rootPackage),
+            new DefaultInjectionProvider(rootPackage, instantiationStrategy),
             // PostConstruct
-            new PostConstructMethodInvoker()));
+            new PostConstructMethodInvoker(instantiationStrategy.usesInjectionDescriptors())));
     }
 
     /**
@@ -62,12 +84,28 @@ public class InjectorBuilder {
      * @return default instantiation providers
      */
     public static List<Handler> createInstantiationProviders(String rootPackage) {
+        return createInstantiationProviders(rootPackage, StandardInstantiationStrategy.REFLECTION);
+    }
+
+    /**
+     * Creates all default handlers implementing {@link Handler#resolve}, instantiating classes with
+     * the given strategy.
+     *
+     * @param rootPackage the root package of the project
+     * @param instantiationStrategy the strategy with which classes should be instantiated
+     * @return default instantiation providers
+     * @see #createInstantiationProviders(String)
+     */
+    public static List<Handler> createInstantiationProviders(String rootPackage,
+                                                             InstantiationStrategy instantiationStrategy) {
         InjectorUtils.checkNotNull(rootPackage, "root package may not be null");
+        InjectorUtils.checkNotNull(instantiationStrategy, "instantiation strategy may not be null");
         return new ArrayList<>(Arrays.asList(
+            new LazyHandler(),
             new ProviderHandler(),
             new FactoryDependencyHandler(),
             new SingletonStoreDependencyHandler(),
-            new DefaultInjectionProvider(rootPackage)));
+            new DefaultInjectionProvider(rootPackage, instantiationStrategy)));
     }
 
     /**
@@ -84,6 +122,23 @@ public class InjectorBuilder {
         return addHandlers(createDefaultHandlers(rootPackage));
     }
 
+    /**
+     * Adds all default handlers to the injector configuration, instantiating classes with the given strategy.
+     * For example, to create objects with method handles instead of reflection:
+     * <code>
+     *   Injector injector = new InjectorBuilder()
+     *     .addDefaultHandlers("your.package.here", StandardInstantiationStrategy.METHOD_HANDLES)
+     *     .create();
+     * </code>
+     *
+     * @param rootPackage the root package of the project
+     * @param instantiationStrategy the strategy with which classes should be instantiated
+     * @return the builder
+     */
+    public InjectorBuilder addDefaultHandlers(String rootPackage, InstantiationStrategy instantiationStrategy) {
+        return addHandlers(createDefaultHandlers(rootPackage, instantiationStrategy));
+    }
+
     /**
      * Add handlers to the config. Note that <b>the order of the handlers matters.</b> Handlers are
      * separated by their subtype and then executed in the order as provided.
@@ -107,6 +162,54 @@ public class InjectorBuilder {
         return this;
     }
 
+    /**
+     * Sets whether the injector should be safe to use from multiple threads. In concurrent mode,
+     * a singleton is created only once even if multiple threads request it at the same time;
+     * threads creating different singletons do not block each other. Disabled by default.
+     * <p>
+     * Note that handlers are shared by all threads: custom handlers should be thread-safe, too.
+     * If multiple threads resolve singletons with cyclic dependencies simultaneously, the threads waiting
+     * for each other are detected and an {@link ch.jalu.injector.exceptions.InjectorException InjectorException}
+     * is thrown, as in non-concurrent mode.
+     *
+     * @param concurrent true to make the injector thread-safe, false otherwise
+     * @return the builder
+     */
+    public InjectorBuilder setConcurrent(boolean concurrent) {
+        config.setConcurrent(concurrent);
+        return this;
+    }
+
+    /**
+     * Sets whether dependencies should be resolved iteratively with an explicit stack instead of recursively.
+     * With recursive resolution (default), every level of the dependency graph adds several frames to the
+     * thread's stack, so that very deep graphs may cause a {@link StackOverflowError}, especially in threads
+     * with a small stack. Iterative resolution keeps the objects being resolved on the heap instead.
+     * Handlers are called in the same way in both modes.
+     * <p>
+     * Note that {@link Injector#newInstance} does not reuse the resolution of previous calls in iterative mode.
+     *
+     * @param iterativeResolution true to resolve dependencies iteratively, false to resolve them recursively
+     * @return the builder
+     */
+    public InjectorBuilder setIterativeResolution(boolean iterativeResolution) {
+        config.setIterativeResolution(iterativeResolution);
+        return this;
+    }
+
+    /**
+     * Sets the monitor to notify about the objects the injector resolves, e.g. {@link ResolutionMetrics}
+     * to find out which singletons take long to create. No monitor is set by default. The monitor cannot
+     * be changed once the injector has been created.
+     *
+     * @param resolutionMonitor the monitor to use, null for none
+     * @return the builder
+     */
+    public InjectorBuilder setResolutionMonitor(@Nullable ResolutionMonitor resolutionMonitor) {
+        config.setResolutionMonitor(resolutionMonitor);
+        return this;
+    }
+
     /**
      * Creates an injector with the configurations set to the builder.
      *
@@ -1,8 +1,15 @@
 package ch.jalu.injector;
 
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.exceptions.InjectorException;
 import ch.jalu.injector.handlers.Handler;
+import ch.jalu.injector.handlers.instantiation.Resolution;
+import ch.jalu.injector.monitor.ResolutionMonitor;
 import ch.jalu.injector.utils.InjectorUtils;
 
+import javax.annotation.Nullable;
+import javax.inject.Provider;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -12,7 +19,13 @@ import java.util.List;
  */
 public class InjectorConfig {
 
-    private List<Handler> handlers = new ArrayList<>();
+    private HandlerList handlers = new HandlerList();
+    private boolean concurrent;
+    private boolean iterativeResolution;
+    @Nullable
+    private ResolutionMonitor resolutionMonitor;
+    /** Handlers per phase, derived from the list of handlers. Null until first used. */
+    private volatile PhaseHandlers phaseHandlers;
 
     /**
      * Use the {@link InjectorBuilder} instead of instantiating this.
@@ -28,4 +41,186 @@ public class InjectorConfig {
     public List<Handler> getHandlers() {
         return handlers;
     }
+
+    /**
+     * Returns a number which changes whenever the list of handlers is modified. Allows to detect
+     * that data derived from the handlers needs to be recomputed.
+     *
+     * @return the version of the handlers list
+     */
+    int getHandlersVersion() {
+        return handlers.getVersion();
+    }
+
+    /**
+     * @return the handlers which implement {@link Handler#resolve}, in order
+     */
+    Handler[] getResolveHandlers() {
+        return getPhaseHandlers().resolveHandlers;
+    }
+
+    /**
+     * @return the handlers which implement {@link Handler#postProcess}, in order
+     */
+    Handler[] getPostProcessHandlers() {
+        return getPhaseHandlers().postProcessHandlers;
+    }
+
+    /**
+     * @return the handlers which implement {@link Handler#onAnnotation}, in order
+     */
+    Handler[] getAnnotationHandlers() {
+        return getPhaseHandlers().annotationHandlers;
+    }
+
+    /**
+     * @return the handlers which implement {@link Handler#onProvider}, in order
+     */
+    Handler[] getProviderHandlers() {
+        return getPhaseHandlers().providerHandlers;
+    }
+
+    /**
+     * @return the handlers which implement {@link Handler#onProviderClass}, in order
+     */
+    Handler[] getProviderClassHandlers() {
+        return getPhaseHandlers().providerClassHandlers;
+    }
+
+    /**
+     * Returns the handlers per phase. They are determined again if the list of handlers has been modified.
+     *
+     * @return the handlers per phase
+     */
+    private PhaseHandlers getPhaseHandlers() {
+        PhaseHandlers current = phaseHandlers;
+        final int handlersVersion = getHandlersVersion();
+        if (current == null || current.handlersVersion != handlersVersion) {
+            current = new PhaseHandlers(handlers, handlersVersion);
+            phaseHandlers = current;
+        }
+        return current;
+    }
+
+    /**
+     * Freezes the current handlers into arrays per phase. Called when the injector is created.
+     */
+    void freezeHandlers() {
+        getPhaseHandlers();
+    }
+
+    /**
+     * @return true if the injector may be used by multiple threads, false otherwise
+     */
+    public boolean isConcurrent() {
+        return concurrent;
+    }
+
+    public void setConcurrent(boolean concurrent) {
+        this.concurrent = concurrent;
+    }
+
+    /**
+     * @return true if dependencies are resolved with an explicit stack instead of recursion, false otherwise
+     */
+    public boolean isIterativeResolution() {
+        return iterativeResolution;
+    }
+
+    public void setIterativeResolution(boolean iterativeResolution) {
+        this.iterativeResolution = iterativeResolution;
+    }
+
+    /**
+     * @return the monitor notified about resolutions, null if there is none
+     */
+    @Nullable
+    public ResolutionMonitor getResolutionMonitor() {
+        return resolutionMonitor;
+    }
+
+    public void setResolutionMonitor(@Nullable ResolutionMonitor resolutionMonitor) {
+        this.resolutionMonitor = resolutionMonitor;
+    }
+
+    /**
+     * List of handlers which counts its modifications, so that the handlers per phase can be determined
+     * again if the handlers are changed after the injector has been created.
+     */
+    private static final class HandlerList extends AbstractList<Handler> {
+
+        private final List<Handler> handlers = new ArrayList<>();
+        private volatile int version;
+
+        int getVersion() {
+            return version;
+        }
+
+        @Override
+        public Handler get(int index) {
+            return handlers.get(index);
+        }
+
+        @Override
+        public int size() {
+            return handlers.size();
+        }
+
+        @Override
+        public Handler set(int index, Handler element) {
+            ++version;
+            return handlers.set(index, element);
+        }
+
+        @Override
+        public void add(int index, Handler element) {
+            ++version;
+            handlers.add(index, element);
+        }
+
+        @Override
+        public Handler remove(int index) {
+            ++version;
+            return handlers.remove(index);
+        }
+    }
+
+    /**
+     * The handlers of each phase: only the handlers which override the given method of {@link Handler}
+     * are kept, so that no-op default methods are not called.
+     */
+    private static final class PhaseHandlers {
+
+        private final int handlersVersion;
+        private final Handler[] resolveHandlers;
+        private final Handler[] postProcessHandlers;
+        private final Handler[] annotationHandlers;
+        private final Handler[] providerHandlers;
+        private final Handler[] providerClassHandlers;
+
+        PhaseHandlers(List<Handler> handlers, int handlersVersion) {
+            this.handlersVersion = handlersVersion;
+            this.resolveHandlers = filterByOverriddenMethod(handlers, "resolve", ResolutionContext.class);
+            this.postProcessHandlers = filterByOverriddenMethod(handlers, "postProcess",
+                Object.class, ResolutionContext.class, Resolution.class);
+            this.annotationHandlers = filterByOverriddenMethod(handlers, "onAnnotation", Class.class, Object.class);
+            this.providerHandlers = filterByOverriddenMethod(handlers, "onProvider", Class.class, Provider.class);
+            this.providerClassHandlers = filterByOverriddenMethod(handlers, "onProviderClass", Class.class, Class.class);
+        }
+
+        private static Handler[] filterByOverriddenMethod(List<Handler> handlers, String methodName,
+                                                          Class<?>... parameterTypes) {
+            return handlers.stream()
+                .filter(handler -> overridesMethod(handler.getClass(), methodName, parameterTypes))
+                .toArray(Handler[]::new);
+        }
+
+        private static boolean overridesMethod(Class<?> handlerClass, String methodName, Class<?>... parameterTypes) {
+            try {
+                return handlerClass.getMethod(methodName, parameterTypes).getDeclaringClass() != Handler.class;
+            } catch (NoSuchMethodException e) {
+                throw new InjectorException("Could not find method '" + methodName + "' in " + handlerClass, e);
+            }
+        }
+    }
 }
@@ -7,20 +7,32 @@ import ch.jalu.injector.context.StandardResolutionType;
 import ch.jalu.injector.exceptions.InjectorException;
 import ch.jalu.injector.handlers.Handler;
 import ch.jalu.injector.handlers.instantiation.Resolution;
+import ch.jalu.injector.monitor.FlightRecorderSupport;
+import ch.jalu.injector.monitor.ResolutionMonitor;
 import ch.jalu.injector.utils.InjectorUtils;
 
 import javax.annotation.Nullable;
 import javax.inject.Provider;
 import java.lang.annotation.Annotation;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static ch.jalu.injector.context.StandardResolutionType.REQUEST_SCOPED;
 import static ch.jalu.injector.context.StandardResolutionType.REQUEST_SCOPED_IF_HAS_DEPENDENCIES;
 import static ch.jalu.injector.context.StandardResolutionType.SINGLETON;
+import static ch.jalu.injector.monitor.ResolutionPhase.INSTANTIATION;
+import static ch.jalu.injector.monitor.ResolutionPhase.POST_PROCESS;
+import static ch.jalu.injector.monitor.ResolutionPhase.RESOLVE;
 import static ch.jalu.injector.utils.InjectorUtils.checkNotNull;
 import static ch.jalu.injector.utils.InjectorUtils.containsNullValue;
 import static ch.jalu.injector.utils.InjectorUtils.firstNotNull;
@@ -31,8 +43,36 @@ import static ch.jalu.injector.utils.InjectorUtils.rethrowException;
  */
 public class InjectorImpl implements Injector {
 
+    /** Marker returned when a resolution frame was pushed onto the stack in iterative resolution. */
+    private static final Object PENDING = new Object();
+
     protected Map<Class<?>, Object> objects;
     protected InjectorConfig config;
+    /** Index of all singletons by type. Created on first use in child injectors. */
+    private volatile SingletonTypeIndex singletonTypeIndex;
+    /** Locks for singletons being created, per class. Only used in concurrent mode, otherwise null. */
+    private final Map<Class<?>, SingletonLock> singletonLocks;
+    /**
+     * Compiled plans for request-scoped objects, by class. In child injectors, only contains the plans which are
+     * bound to the child injector (e.g. plans with injected factories); all other plans are in {@link #sharedPlans}.
+     */
+    private final Map<Class<?>, ResolutionPlan> requestScopedPlans;
+    /** Compiled plans not bound to an injector. Map of the root injector, shared with all child injectors. */
+    private final Map<Class<?>, ResolutionPlan> sharedPlans;
+    /** Number of times the plans were invalidated by the root injector. Shared with all child injectors. */
+    private final AtomicInteger planInvalidations;
+    /** Value of {@link #planInvalidations} when this injector's plans were last cleared. */
+    private volatile int knownPlanInvalidations;
+    /** Whether objects are resolved with an explicit stack instead of recursion. */
+    private final boolean iterativeResolution;
+    /** The injector this injector is a child of, null if it is not a child injector. */
+    @Nullable
+    private final InjectorImpl parent;
+    /** Monitor notified about resolutions as configured, null if there is none. */
+    @Nullable
+    private final ResolutionMonitor configuredMonitor;
+    /** Configured monitor combined with the monitor emitting JFR events. Created when first needed. */
+    private volatile ResolutionMonitor recordingMonitor;
 
     /**
      * Constructor.
@@ -42,24 +82,65 @@ public class InjectorImpl implements Injector {
      */
     protected InjectorImpl(InjectorConfig config) {
         this.config = config;
-        this.objects = new HashMap<>();
+        if (config.isConcurrent()) {
+            this.objects = new ConcurrentHashMap<>();
+            this.singletonLocks = new ConcurrentHashMap<>();
+        } else {
+            this.objects = new HashMap<>();
+            this.singletonLocks = null;
+        }
+        this.requestScopedPlans = new ConcurrentHashMap<>();
+        this.sharedPlans = requestScopedPlans;
+        this.planInvalidations = new AtomicInteger();
+        this.iterativeResolution = config.isIterativeResolution();
+        this.parent = null;
+        this.configuredMonitor = config.getResolutionMonitor();
+        config.freezeHandlers();
         this.objects.put(Injector.class, this);
+        this.singletonTypeIndex = new SingletonTypeIndex();
+        this.singletonTypeIndex.add(this);
+    }
+
+    /**
+     * Constructor for child injectors.
+     *
+     * @param parent the parent injector
+     * @see #createChildInjector
+     */
+    protected InjectorImpl(InjectorImpl parent) {
+        this.config = parent.config;
+        if (config.isConcurrent()) {
+            this.objects = new ChildSingletonMap(parent.objects, new ConcurrentHashMap<>(), this);
+            this.singletonLocks = new ConcurrentHashMap<>();
+        } else {
+            this.objects = new ChildSingletonMap(parent.objects, new HashMap<>(), this);
+            this.singletonLocks = null;
+        }
+        this.requestScopedPlans = new ConcurrentHashMap<>();
+        this.sharedPlans = parent.sharedPlans;
+        this.planInvalidations = parent.planInvalidations;
+        this.knownPlanInvalidations = planInvalidations.get();
+        this.iterativeResolution = parent.iterativeResolution;
+        this.parent = parent;
+        this.configuredMonitor = parent.configuredMonitor;
     }
 
     @Override
     public <T> void register(Class<? super T> clazz, T object) {
-        if (objects.containsKey(clazz)) {
+        checkNotNull(object);
+        if (objects.putIfAbsent(clazz, object) != null) {
             throw new InjectorException("There is already an object present for " + clazz);
         }
-        checkNotNull(object);
-        objects.put(clazz, object);
+        getSingletonTypeIndex().add(object);
     }
 
     @Override
     public void provide(Class<? extends Annotation> clazz, Object object) {
         checkNotNull(clazz, "Provided annotation may not be null");
+        verifyIsNotChild("Annotation values cannot be provided to a child injector");
+        invalidatePlans();
         try {
-            for (Handler handler : config.getHandlers()) {
+            for (Handler handler : config.getAnnotationHandlers()) {
                 handler.onAnnotation(clazz, object);
             }
         } catch (Exception e) {
@@ -68,13 +149,23 @@ public class InjectorImpl implements Injector {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T getSingleton(Class<T> clazz) {
+        // Fast path: known singletons are returned without creating an identifier and a resolution context
+        Object knownSingleton = objects.get(clazz);
+        if (knownSingleton != null) {
+            return (T) knownSingleton;
+        }
         return resolve(SINGLETON, clazz);
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T newInstance(Class<T> clazz) {
-        return resolve(REQUEST_SCOPED, clazz);
+        if (iterativeResolution) {
+            return resolve(REQUEST_SCOPED, clazz);
+        }
+        return (T) runPlan(getOrCompileRequestScopedPlan(clazz), null);
     }
 
     @Override
@@ -89,21 +180,22 @@ public class InjectorImpl implements Injector {
 
     @Override
     public <T> Collection<T> retrieveAllOfType(Class<T> clazz) {
-        List<T> instances = new ArrayList<>();
-        for (Object object : objects.values()) {
-            if (clazz.isInstance(object)) {
-                instances.add(clazz.cast(object));
-            }
+        if (parent == null) {
+            return getSingletonTypeIndex().getAllOfType(clazz);
         }
-        return instances;
+        List<T> singletons = new ArrayList<>(parent.retrieveAllOfType(clazz));
+        singletons.addAll(getSingletonTypeIndex().getAllOfType(clazz));
+        return Collections.unmodifiableList(singletons);
     }
 
     @Override
     public <T> void registerProvider(Class<T> clazz, Provider<? extends T> provider) {
         checkNotNull(clazz, "Class may not be null");
         checkNotNull(provider, "Provider may not be null");
+        verifyIsNotChild("Providers cannot be registered with a child injector");
+        invalidatePlans();
         try {
-            for (Handler handler : config.getHandlers()) {
+            for (Handler handler : config.getProviderHandlers()) {
                 handler.onProvider(clazz, provider);
             }
         } catch (Exception e) {
@@ -115,8 +207,10 @@ public class InjectorImpl implements Injector {
     public <T, P extends Provider<? extends T>> void registerProvider(Class<T> clazz, Class<P> providerClass) {
         checkNotNull(clazz, "Class may not be null");
         checkNotNull(providerClass, "Provider class may not be null");
+        verifyIsNotChild("Providers cannot be registered with a child injector");
+        invalidatePlans();
         try {
-            for (Handler handler : config.getHandlers()) {
+            for (Handler handler : config.getProviderClassHandlers()) {
                 handler.onProviderClass(clazz, providerClass);
             }
         } catch (Exception e) {
@@ -124,14 +218,85 @@ public class InjectorImpl implements Injector {
         }
     }
 
+    @Override
+    public void initializeSingletons(Collection<? extends Class<?>> classes, Executor executor) {
+        checkNotNull(classes, "Classes may not be null");
+        checkNotNull(executor, "Executor may not be null");
+        verifyIsConcurrent();
+        new ParallelSingletonInitializer(this, executor).initialize(classes);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> getSingletonAsync(Class<T> clazz, Executor executor) {
+        checkNotNull(clazz, "Class may not be null");
+        checkNotNull(executor, "Executor may not be null");
+        verifyIsConcurrent();
+        Object knownSingleton = objects.get(clazz);
+        if (knownSingleton != null) {
+            return CompletableFuture.completedFuture((T) knownSingleton);
+        }
+
+        // Determine the singletons to create on the executor as well, so that the caller is never blocked
+        return CompletableFuture.supplyAsync(() -> new ParallelSingletonInitializer(this, executor), executor)
+            .thenCompose(initializer -> initializer.initializeAsync(Collections.singletonList(clazz)))
+            // Resolves the singleton if it is not created by instantiation (e.g. provided by a provider)
+            .thenApply(ignored -> getSingleton(clazz));
+    }
+
+    @Override
+    public Injector createChildInjector() {
+        return new InjectorImpl(this);
+    }
+
+    private SingletonTypeIndex getSingletonTypeIndex() {
+        SingletonTypeIndex index = singletonTypeIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = singletonTypeIndex;
+                if (index == null) {
+                    index = new SingletonTypeIndex();
+                    index.add(this);
+                    singletonTypeIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private void verifyIsNotChild(String errorMessage) {
+        if (parent != null) {
+            throw new InjectorException(errorMessage);
+        }
+    }
+
+    private void verifyIsConcurrent() {
+        if (singletonLocks == null) {
+            throw new InjectorException("Singletons can only be initialized in parallel by a concurrent injector");
+        }
+    }
+
     public InjectorConfig getConfig() {
         return config;
     }
 
+    /**
+     * Returns the root injector: the injector all child injectors were created from, directly or indirectly.
+     *
+     * @return the root injector, this injector if it is not a child injector
+     */
+    public InjectorImpl getRootInjector() {
+        InjectorImpl root = this;
+        while (root.parent != null) {
+            root = root.parent;
+        }
+        return root;
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T resolve(ResolutionType resolutionType, Class<?> clazz) {
-        return (T) resolveContext(
-            new ResolutionContext(this, new ObjectIdentifier(resolutionType, clazz)));
+        ResolutionContext context = new ResolutionContext(this, new ObjectIdentifier(resolutionType, clazz));
+        return (T) (iterativeResolution ? resolveIteratively(context) : resolveContext(context));
     }
 
     /**
@@ -150,24 +315,456 @@ public class InjectorImpl implements Injector {
             }
         }
 
-        Resolution<?> resolution = findResolutionOrFail(context);
+        final ResolutionMonitor monitor = getMonitor();
+        if (monitor == null) {
+            return resolveNewObject(context);
+        }
+        monitor.resolutionStarted(context);
+        try {
+            return resolveNewObject(context);
+        } finally {
+            monitor.resolutionFinished(context);
+        }
+    }
+
+    /**
+     * Resolves the object of the given context, which is not a singleton that has already been created.
+     *
+     * @param context the context to resolve the object for
+     * @return the resolved object, {@code null} if the context specifies it is optional and some criteria is not met
+     */
+    @Nullable
+    private Object resolveNewObject(ResolutionContext context) {
+        Resolution<?> resolution = findResolution(context);
         if (isContextChildOfOptionalRequest(context) && resolution.isInstantiation()) {
             return null;
         }
+        if (singletonLocks != null && resolution.isInstantiation()
+            && context.getIdentifier().getResolutionType() == SINGLETON) {
+            return createSingletonWithLock(context, resolution);
+        }
+        return createObject(context, resolution);
+    }
+
+    /**
+     * Creates the singleton of the given context with the resolution that was determined beforehand,
+     * as done by the {@link ParallelSingletonInitializer} (concurrent mode only).
+     *
+     * @param context the resolution context
+     * @param resolution the resolution to create the singleton with
+     * @return the singleton, {@code null} if the context is optional and some criteria is not met
+     */
+    @Nullable
+    Object createResolvedSingleton(ResolutionContext context, Resolution<?> resolution) {
+        final ResolutionMonitor monitor = getMonitor();
+        if (monitor == null) {
+            return createSingletonWithLock(context, resolution);
+        }
+        monitor.resolutionStarted(context);
+        try {
+            return createSingletonWithLock(context, resolution);
+        } finally {
+            monitor.resolutionFinished(context);
+        }
+    }
+
+    /**
+     * Creates the singleton of the given context while holding the lock of the singleton's class
+     * (concurrent mode only). Only one thread may create a given singleton at a time; other threads
+     * requesting the same singleton wait and then receive the instance which was created.
+     *
+     * @param context the resolution context
+     * @param resolution the resolution to create the singleton with
+     * @return the singleton, {@code null} if the context is optional and some criteria is not met
+     */
+    @Nullable
+    private Object createSingletonWithLock(ResolutionContext context, Resolution<?> resolution) {
+        final Class<?> clazz = context.getOriginalIdentifier().getTypeAsClass();
+        final SingletonLock lock = lockSingletonCreation(clazz);
+        try {
+            // Another thread may have created the singleton while we were waiting for the lock
+            Object knownSingleton = objects.get(clazz);
+            if (knownSingleton != null) {
+                return knownSingleton;
+            }
+            Object object = createObject(context, resolution);
+            if (object != null) {
+                // The singleton is registered, so the lock is no longer needed
+                singletonLocks.remove(clazz);
+            }
+            return object;
+        } finally {
+            lock.unlock();
+        }
+    }
 
+    private SingletonLock lockSingletonCreation(Class<?> clazz) {
+        SingletonLock lock = singletonLocks.computeIfAbsent(clazz, SingletonLock::new);
+        lock.lockOrFailOnDeadlock();
+        return lock;
+    }
+
+    /**
+     * Creates the object of the given context with the resolution: resolves its dependencies, instantiates
+     * the object and runs the post construct handlers. Singletons are registered.
+     *
+     * @param context the resolution context
+     * @param resolution the resolution to create the object with
+     * @return the created object, {@code null} if the context is optional and some criteria is not met
+     */
+    @Nullable
+    private Object createObject(ResolutionContext context, Resolution<?> resolution) {
         Object[] resolvedDependencies = resolveDependencies(context, resolution);
         if (containsNullValue(resolvedDependencies)) {
             throwForUnexpectedNullDependency(context);
             return null;
         }
 
-        Object object = runPostConstructHandlers(resolution.instantiateWith(resolvedDependencies), context, resolution);
+        Object object = instantiate(context, resolution, resolvedDependencies);
         if (resolution.isInstantiation() && context.getIdentifier().getResolutionType() == SINGLETON) {
             register((Class) context.getOriginalIdentifier().getTypeAsClass(), object);
         }
         return object;
     }
 
+    /**
+     * Returns the object as defined by the given context, like {@link #resolveContext}, but without recursion:
+     * objects whose dependencies are being resolved are kept on an explicit stack, so the depth of the
+     * dependency graph is not limited by the size of the thread's stack. Handlers are called in the same order
+     * as with the recursive resolution.
+     *
+     * @param rootContext the context to resolve the object for
+     * @return the resolved object, {@code null} if the context specifies it is optional and some criteria is not met
+     */
+    @Nullable
+    private Object resolveIteratively(ResolutionContext rootContext) {
+        final Deque<ResolutionFrame> stack = new ArrayDeque<>();
+        Object value = pushFrameOrResolve(rootContext, stack);
+        try {
+            while (!stack.isEmpty()) {
+                ResolutionFrame frame = stack.peek();
+                if (value != PENDING) {
+                    // Value is the resolved dependency of the frame on top of the stack
+                    if (value == null) {
+                        stack.pop();
+                        finishFrame(frame);
+                        throwForUnexpectedNullDependency(frame.context);
+                        continue; // pass null on to the parent
+                    }
+                    frame.values[frame.index] = value;
+                    ++frame.index;
+                }
+
+                if (frame.index < frame.values.length) {
+                    ObjectIdentifier dependency = frame.resolution.getDependencies().get(frame.index);
+                    value = pushFrameOrResolve(frame.context.createChildContext(dependency), stack);
+                } else {
+                    stack.pop();
+                    value = createObject(frame);
+                }
+            }
+        } finally {
+            // Only has remaining frames if an exception was thrown
+            while (!stack.isEmpty()) {
+                finishFrame(stack.pop());
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the object of the given context if it can be determined without resolving any dependencies.
+     * Otherwise, pushes a new frame for the context onto the stack and returns {@link #PENDING}.
+     *
+     * @param context the context to process
+     * @param stack the stack of the iterative resolution
+     * @return the object (null if the context is optional and some criteria is not met), or {@link #PENDING}
+     */
+    @Nullable
+    private Object pushFrameOrResolve(ResolutionContext context, Deque<ResolutionFrame> stack) {
+        if (context.getIdentifier().getResolutionType() == SINGLETON) {
+            Object knownSingleton = objects.get(context.getIdentifier().getTypeAsClass());
+            if (knownSingleton != null) {
+                return knownSingleton;
+            }
+        }
+
+        final ResolutionMonitor monitor = getMonitor();
+        if (monitor == null) {
+            return resolveNewObjectOrPushFrame(context, stack);
+        }
+        monitor.resolutionStarted(context);
+        boolean isPending = false;
+        try {
+            Object value = resolveNewObjectOrPushFrame(context, stack);
+            isPending = value == PENDING;
+            return value;
+        } finally {
+            // The resolution of a pushed frame is finished with the frame
+            if (!isPending) {
+                monitor.resolutionFinished(context);
+            }
+        }
+    }
+
+    /**
+     * Like {@link #pushFrameOrResolve}, for a context which is not a singleton that has already been created.
+     *
+     * @param context the context to process
+     * @param stack the stack of the iterative resolution
+     * @return the object (null if the context is optional and some criteria is not met), or {@link #PENDING}
+     */
+    @Nullable
+    private Object resolveNewObjectOrPushFrame(ResolutionContext context, Deque<ResolutionFrame> stack) {
+        Resolution<?> resolution = findResolution(context);
+        if (isContextChildOfOptionalRequest(context) && resolution.isInstantiation()) {
+            return null;
+        }
+
+        SingletonLock lock = null;
+        if (singletonLocks != null && resolution.isInstantiation()
+            && context.getIdentifier().getResolutionType() == SINGLETON) {
+            final Class<?> clazz = context.getOriginalIdentifier().getTypeAsClass();
+            lock = lockSingletonCreation(clazz);
+            Object knownSingleton = objects.get(clazz);
+            if (knownSingleton != null) {
+                lock.unlock();
+                return knownSingleton;
+            }
+        }
+        stack.push(new ResolutionFrame(context, resolution, lock));
+        return PENDING;
+    }
+
+    /**
+     * Creates the object of a frame whose dependencies have all been resolved. Singletons are registered.
+     *
+     * @param frame the frame to process
+     * @return the created object
+     */
+    private Object createObject(ResolutionFrame frame) {
+        try {
+            final ResolutionContext context = frame.context;
+            Object object = instantiate(context, frame.resolution, frame.values);
+            if (frame.resolution.isInstantiation() && context.getIdentifier().getResolutionType() == SINGLETON) {
+                register((Class) context.getOriginalIdentifier().getTypeAsClass(), object);
+                if (frame.lock != null) {
+                    singletonLocks.remove(context.getOriginalIdentifier().getTypeAsClass());
+                }
+            }
+            return object;
+        } finally {
+            finishFrame(frame);
+        }
+    }
+
+    /**
+     * Releases the lock of the given frame, if applicable, and notifies the monitor that its resolution
+     * has finished. Called for every frame that is removed from the stack.
+     *
+     * @param frame the frame to finish
+     */
+    private void finishFrame(ResolutionFrame frame) {
+        frame.unlock();
+        final ResolutionMonitor monitor = getMonitor();
+        if (monitor != null) {
+            monitor.resolutionFinished(frame.context);
+        }
+    }
+
+    /**
+     * Removes the compiled plans of this injector and of all its child injectors.
+     */
+    private void invalidatePlans() {
+        requestScopedPlans.clear();
+        knownPlanInvalidations = planInvalidations.incrementAndGet();
+    }
+
+    /**
+     * Returns the compiled plan to create new instances of the given class with. The plan is compiled
+     * if it does not exist yet or if the handlers have changed since. Child injectors use the plans of
+     * the root injector unless they are bound to an injector.
+     *
+     * @param clazz the class to get the plan for
+     * @return the plan
+     */
+    private ResolutionPlan getOrCompileRequestScopedPlan(Class<?> clazz) {
+        final int invalidations = planInvalidations.get();
+        if (invalidations != knownPlanInvalidations) {
+            // The root injector's providers or annotation values have changed since the plans were compiled
+            requestScopedPlans.clear();
+            knownPlanInvalidations = invalidations;
+        }
+        final int handlersVersion = config.getHandlersVersion();
+        ResolutionPlan plan = requestScopedPlans.get(clazz);
+        if (plan == null) {
+            ResolutionPlan sharedPlan = sharedPlans.get(clazz);
+            plan = sharedPlan == null || sharedPlan.isBoundToInjector() ? null : sharedPlan;
+        }
+        if (plan == null || plan.getHandlersVersion() != handlersVersion) {
+            ResolutionContext context = new ResolutionContext(this, new ObjectIdentifier(REQUEST_SCOPED, clazz));
+            plan = compilePlan(context, findResolutionOrFail(context), handlersVersion);
+            (plan.isBoundToInjector() ? requestScopedPlans : sharedPlans).put(clazz, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Compiles the plan for the given context and the resolution the handlers returned for it.
+     *
+     * @param context the context
+     * @param resolution the resolution of the context
+     * @param handlersVersion the current version of the handlers
+     * @return the plan
+     */
+    private ResolutionPlan compilePlan(ResolutionContext context, Resolution<?> resolution, int handlersVersion) {
+        final List<ObjectIdentifier> dependencies = resolution.getDependencies();
+        final ResolutionPlan[] dependencyPlans = new ResolutionPlan[dependencies.size()];
+        for (int i = 0; i < dependencyPlans.length; ++i) {
+            dependencyPlans[i] = compileDependencyPlan(context.createChildContext(dependencies.get(i)), handlersVersion);
+        }
+        return ResolutionPlan.of(context, resolution, dependencyPlans, handlersVersion);
+    }
+
+    private ResolutionPlan compileDependencyPlan(ResolutionContext context, int handlersVersion) {
+        final ObjectIdentifier identifier = context.getIdentifier();
+        if (identifier.getResolutionType() == SINGLETON) {
+            if (!objects.containsKey(identifier.getTypeAsClass())) {
+                // Singletons to instantiate are created once by the regular resolution. Other resolutions
+                // (e.g. Provider, Factory or annotation values) are kept in the plan
+                Resolution<?> resolution = findResolutionOrFail(context);
+                if (!resolution.isInstantiation()) {
+                    return compilePlan(context, resolution, handlersVersion);
+                }
+            }
+        } else if (identifier.getResolutionType() == REQUEST_SCOPED) {
+            return compilePlan(context, findResolutionOrFail(context), handlersVersion);
+        }
+        return ResolutionPlan.deferred(identifier);
+    }
+
+    /**
+     * Creates an object as defined by the given plan.
+     *
+     * @param plan the plan to run
+     * @param parentContext the context of the parent, null if the plan is for the root object
+     * @return the created object
+     */
+    private Object runPlan(ResolutionPlan plan, @Nullable ResolutionContext parentContext) {
+        final ResolutionContext context = plan.createContext(this, parentContext);
+        final ResolutionMonitor monitor = getMonitor();
+        if (monitor == null) {
+            return createObject(plan, context);
+        }
+        monitor.resolutionStarted(context);
+        try {
+            return createObject(plan, context);
+        } finally {
+            monitor.resolutionFinished(context);
+        }
+    }
+
+    /**
+     * Creates the object of the given plan: resolves its dependencies, instantiates the object and runs
+     * the post construct handlers.
+     *
+     * @param plan the plan to run
+     * @param context the context of the object
+     * @return the created object
+     */
+    private Object createObject(ResolutionPlan plan, ResolutionContext context) {
+        final Resolution<?> resolution = plan.getResolution();
+        final ResolutionPlan[] dependencyPlans = plan.getDependencies();
+
+        final Object[] resolvedDependencies = new Object[dependencyPlans.length];
+        for (int i = 0; i < dependencyPlans.length; ++i) {
+            Object dependency = resolveDependency(dependencyPlans[i], context);
+            if (dependency == null) {
+                throwForUnexpectedNullDependency(context);
+                return null;
+            }
+            resolvedDependencies[i] = dependency;
+        }
+        return instantiate(context, resolution, resolvedDependencies);
+    }
+
+    /**
+     * Returns the monitor to notify: the configured monitor, combined with the monitor emitting JFR events
+     * while a flight recording is running.
+     *
+     * @return the monitor to notify, null if there is none
+     */
+    @Nullable
+    private ResolutionMonitor getMonitor() {
+        if (FlightRecorderSupport.isRecording()) {
+            ResolutionMonitor monitor = recordingMonitor;
+            if (monitor == null) {
+                monitor = FlightRecorderSupport.withEventMonitor(configuredMonitor);
+                recordingMonitor = monitor;
+            }
+            return monitor;
+        }
+        return configuredMonitor;
+    }
+
+    /**
+     * Returns the resolution the handlers provide for the given context, notifying the monitor if applicable.
+     *
+     * @param context the context to find the resolution for
+     * @return the resolution
+     * @see #findResolutionOrFail
+     */
+    private Resolution<?> findResolution(ResolutionContext context) {
+        final ResolutionMonitor monitor = getMonitor();
+        if (monitor == null) {
+            return findResolutionOrFail(context);
+        }
+        monitor.phaseStarted(context, RESOLVE);
+        Resolution<?> resolution = findResolutionOrFail(context);
+        monitor.phaseFinished(context, RESOLVE);
+        return resolution;
+    }
+
+    /**
+     * Instantiates the object with the given resolution and runs the post construct handlers on it,
+     * notifying the monitor if applicable.
+     *
+     * @param context the resolution context
+     * @param resolution the resolution to create the object with
+     * @param values the resolved dependencies of the resolution
+     * @return the object to use (as post construct methods may change it)
+     */
+    private Object instantiate(ResolutionContext context, Resolution<?> resolution, Object[] values) {
+        final ResolutionMonitor monitor = getMonitor();
+        if (monitor == null) {
+            return runPostConstructHandlers(resolution.instantiateWith(values), context, resolution);
+        }
+        monitor.phaseStarted(context, INSTANTIATION);
+        Object instance = resolution.instantiateWith(values);
+        monitor.phaseFinished(context, INSTANTIATION);
+        if (!resolution.isInstantiation()) {
+            return instance;
+        }
+        monitor.phaseStarted(context, POST_PROCESS);
+        Object object = runPostConstructHandlers(instance, context, resolution);
+        monitor.phaseFinished(context, POST_PROCESS);
+        return object;
+    }
+
+    @Nullable
+    private Object resolveDependency(ResolutionPlan dependencyPlan, ResolutionContext context) {
+        final ObjectIdentifier identifier = dependencyPlan.getOriginalIdentifier();
+        if (identifier.getResolutionType() == SINGLETON) {
+            Object knownSingleton = objects.get(identifier.getTypeAsClass());
+            if (knownSingleton != null) {
+                return knownSingleton;
+            }
+        }
+        return dependencyPlan.getResolution() == null
+            ? resolveContext(context.createChildContext(identifier))
+            : runPlan(dependencyPlan, context);
+    }
+
     /**
      * Resolves the dependencies as defined by the given resolution.
      * If a dependency is resolved to {@code null}, the process is aborted and the remaining dependencies
@@ -210,8 +807,8 @@ public class InjectorImpl implements Injector {
     }
 
     private static boolean isContextChildOfOptionalRequest(ResolutionContext context) {
-        return !context.getParents().isEmpty()
-            && context.getParents().get(0).getIdentifier().getResolutionType() == REQUEST_SCOPED_IF_HAS_DEPENDENCIES;
+        return context.getParent() != null
+            && context.getRoot().getIdentifier().getResolutionType() == REQUEST_SCOPED_IF_HAS_DEPENDENCIES;
     }
 
     /**
@@ -223,9 +820,13 @@ public class InjectorImpl implements Injector {
      */
     protected Resolution<?> findResolutionOrFail(ResolutionContext context) {
         try {
-            for (Handler handler : config.getHandlers()) {
+            for (Handler handler : config.getResolveHandlers()) {
                 Resolution<?> resolution = handler.resolve(context);
                 if (resolution != null) {
+                    final ResolutionMonitor monitor = getMonitor();
+                    if (monitor != null) {
+                        monitor.handlerSelected(context, handler);
+                    }
                     return resolution;
                 }
             }
@@ -267,7 +868,7 @@ public class InjectorImpl implements Injector {
 
         T object = instance;
         try {
-            for (Handler handler : config.getHandlers()) {
+            for (Handler handler : config.getPostProcessHandlers()) {
                 object = firstNotNull(handler.postProcess(object, context, resolution), object);
             }
         } catch (Exception e) {
@@ -275,4 +876,31 @@ public class InjectorImpl implements Injector {
         }
         return object;
     }
+
+    /**
+     * Object whose dependencies are being resolved in {@link #resolveIteratively iterative resolution}.
+     */
+    private static final class ResolutionFrame {
+
+        private final ResolutionContext context;
+        private final Resolution<?> resolution;
+        private final Object[] values;
+        private int index;
+        /** Lock held for the creation of the singleton (concurrent mode only), null otherwise. */
+        private SingletonLock lock;
+
+        ResolutionFrame(ResolutionContext context, Resolution<?> resolution, @Nullable SingletonLock lock) {
+            this.context = context;
+            this.resolution = resolution;
+            this.values = new Object[resolution.getDependencies().size()];
+            this.lock = lock;
+        }
+
+        void unlock() {
+            if (lock != null) {
+                lock.unlock();
+                lock = null;
+            }
+        }
+    }
 }
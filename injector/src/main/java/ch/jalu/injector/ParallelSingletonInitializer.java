@@ -0,0 +1,202 @@
+package ch.jalu.injector;
+
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.handlers.instantiation.Resolution;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static ch.jalu.injector.context.StandardResolutionType.SINGLETON;
+
+/**
+ * Creates singletons and the singletons they depend on in parallel.
+ * <p>
+ * First, the singletons to create are determined by resolving the requested classes and their dependencies
+ * sequentially, which yields a graph of the singletons and their dependencies among each other. Every
+ * singleton is then created on the executor as soon as all singletons it depends on have been created. Other
+ * dependencies (e.g. request-scoped objects or providers) are resolved when their dependent is created.
+ *
+ * @see Injector#initializeSingletons
+ * @see Injector#getSingletonAsync
+ */
+final class ParallelSingletonInitializer {
+
+    private final InjectorImpl injector;
+    private final Executor executor;
+    /** Singletons to create by class. */
+    private final Map<Class<?>, SingletonNode> nodesByClass = new HashMap<>();
+    /** Singletons to create, each singleton coming after all of its dependencies. */
+    private final List<SingletonNode> nodesInCreationOrder = new ArrayList<>();
+    private final Collection<Failure> failures = new ConcurrentLinkedQueue<>();
+
+    ParallelSingletonInitializer(InjectorImpl injector, Executor executor) {
+        this.injector = injector;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates the singletons of the given classes and all singletons they depend on. Returns once all
+     * singletons have been processed.
+     *
+     * @param classes the classes to create singletons of
+     */
+    void initialize(Collection<? extends Class<?>> classes) {
+        try {
+            initializeAsync(classes).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Determines the singletons to create for the given classes and starts creating them.
+     *
+     * @param classes the classes to create singletons of
+     * @return future which completes once all singletons have been processed, exceptionally if any of them
+     *         could not be created
+     */
+    CompletableFuture<Void> initializeAsync(Collection<? extends Class<?>> classes) {
+        for (Class<?> clazz : classes) {
+            discoverSingleton(new ResolutionContext(injector, new ObjectIdentifier(SINGLETON, clazz)));
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(nodesInCreationOrder.size());
+        for (SingletonNode node : nodesInCreationOrder) {
+            List<CompletableFuture<Void>> dependencies = node.dependencies.stream()
+                .map(dependency -> dependency.future)
+                .collect(Collectors.toList());
+            node.future = allOf(dependencies).thenRunAsync(() -> createSingleton(node), executor);
+            futures.add(node.future);
+        }
+        // Wait for all singletons, regardless of whether they could be created
+        return allOf(futures).handle((result, e) -> {
+            if (!failures.isEmpty()) {
+                throw createExceptionForFailures();
+            } else if (e != null) {
+                // Not thrown by a singleton, e.g. the executor rejected the task
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                throw new InjectorException("Could not create singletons", cause);
+            }
+            return null;
+        });
+    }
+
+    private static CompletableFuture<Void> allOf(List<CompletableFuture<Void>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Resolves the given context and its dependencies if it is a singleton that needs to be created.
+     *
+     * @param context the context to process
+     * @return node of the singleton to create, null if no singleton needs to be created for the context
+     */
+    @Nullable
+    private SingletonNode discoverSingleton(ResolutionContext context) {
+        final Class<?> clazz = context.getOriginalIdentifier().getTypeAsClass();
+        if (injector.objects.containsKey(clazz)) {
+            return null;
+        }
+        SingletonNode node = nodesByClass.get(clazz);
+        if (node != null) {
+            if (!node.isDiscovered) {
+                throw new InjectorException("Found cyclic dependency: " + buildPath(context));
+            }
+            return node;
+        }
+
+        Resolution<?> resolution;
+        try {
+            resolution = injector.findResolutionOrFail(context);
+        } catch (InjectorException e) {
+            throw new InjectorException("Could not resolve singleton " + buildPath(context), e);
+        }
+        if (!resolution.isInstantiation()) {
+            // Created together with its dependent
+            return null;
+        }
+
+        node = new SingletonNode(context, resolution);
+        nodesByClass.put(clazz, node);
+        for (ObjectIdentifier dependency : resolution.getDependencies()) {
+            if (dependency.getResolutionType() == SINGLETON) {
+                SingletonNode dependencyNode = discoverSingleton(context.createChildContext(dependency));
+                if (dependencyNode != null) {
+                    node.dependencies.add(dependencyNode);
+                }
+            }
+        }
+        node.isDiscovered = true;
+        nodesInCreationOrder.add(node);
+        return node;
+    }
+
+    private void createSingleton(SingletonNode node) {
+        try {
+            injector.createResolvedSingleton(node.context, node.resolution);
+        } catch (RuntimeException | Error e) {
+            failures.add(new Failure(node, e));
+            throw e;
+        }
+    }
+
+    private InjectorException createExceptionForFailures() {
+        String failureList = failures.stream()
+            .map(failure -> "\n- " + buildPath(failure.node.context) + ": " + failure.cause.getMessage())
+            .collect(Collectors.joining());
+        InjectorException exception = new InjectorException("Could not create " + failures.size()
+            + " singleton(s):" + failureList, failures.iterator().next().cause);
+        failures.stream().skip(1).forEach(failure -> exception.addSuppressed(failure.cause));
+        return exception;
+    }
+
+    private static String buildPath(ResolutionContext context) {
+        return Stream.concat(context.getParents().stream(), Stream.of(context))
+            .map(ctx -> ctx.getIdentifier().getType().getTypeName())
+            .collect(Collectors.joining(" -> "));
+    }
+
+    /**
+     * Singleton to create.
+     */
+    private static final class SingletonNode {
+
+        private final ResolutionContext context;
+        private final Resolution<?> resolution;
+        private final List<SingletonNode> dependencies = new ArrayList<>();
+        /** True once all dependencies have been determined. */
+        private boolean isDiscovered;
+        private CompletableFuture<Void> future;
+
+        SingletonNode(ResolutionContext context, Resolution<?> resolution) {
+            this.context = context;
+            this.resolution = resolution;
+        }
+    }
+
+    /**
+     * Exception thrown while creating a singleton.
+     */
+    private static final class Failure {
+
+        private final SingletonNode node;
+        private final Throwable cause;
+
+        Failure(SingletonNode node, Throwable cause) {
+            this.node = node;
+            this.cause = cause;
+        }
+    }
+}
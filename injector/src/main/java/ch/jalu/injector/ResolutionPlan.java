@@ -0,0 +1,128 @@
+package ch.jalu.injector;
+
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.context.StandardResolutionType;
+import ch.jalu.injector.handlers.instantiation.Resolution;
+
+import javax.annotation.Nullable;
+
+/**
+ * Compiled resolution of an object: holds the {@link Resolution} the handlers returned for an identifier, along
+ * with the plans of its dependencies. Allows the injector to create request-scoped objects repeatedly without
+ * asking the handlers again.
+ * <p>
+ * A plan without resolution is a deferred plan: the object is resolved by the handlers each time (unless it is
+ * an already registered singleton). This is the case for singletons which need to be instantiated, as they are
+ * only created once and then retrieved from the injector.
+ * <p>
+ * Plans are immutable. Plans which are not {@link #isBoundToInjector() bound to an injector} are shared by
+ * the root injector with its child injectors.
+ */
+final class ResolutionPlan {
+
+    private static final ResolutionPlan[] NO_DEPENDENCIES = new ResolutionPlan[0];
+
+    private final ObjectIdentifier originalIdentifier;
+    private final ObjectIdentifier identifier;
+    private final Resolution<?> resolution;
+    private final ResolutionPlan[] dependencies;
+    private final int handlersVersion;
+    private final boolean boundToInjector;
+
+    private ResolutionPlan(ObjectIdentifier originalIdentifier, ObjectIdentifier identifier,
+                           @Nullable Resolution<?> resolution, ResolutionPlan[] dependencies, int handlersVersion) {
+        this.originalIdentifier = originalIdentifier;
+        this.identifier = identifier;
+        this.resolution = resolution;
+        this.dependencies = dependencies;
+        this.handlersVersion = handlersVersion;
+        this.boundToInjector = isBoundToInjector(resolution, dependencies);
+    }
+
+    /**
+     * Creates a plan with the resolution which was found for the given context.
+     *
+     * @param context the context the resolution was found for
+     * @param resolution the resolution
+     * @param dependencies plans for the resolution's dependencies, in the same order
+     * @param handlersVersion the version of the handlers the plan was compiled with
+     * @return the plan
+     */
+    static ResolutionPlan of(ResolutionContext context, Resolution<?> resolution, ResolutionPlan[] dependencies,
+                             int handlersVersion) {
+        return new ResolutionPlan(context.getOriginalIdentifier(), context.getIdentifier(), resolution,
+            dependencies, handlersVersion);
+    }
+
+    /**
+     * Creates a plan whose object is resolved by the handlers whenever it is needed.
+     *
+     * @param identifier the identifier of the object
+     * @return deferred plan
+     */
+    static ResolutionPlan deferred(ObjectIdentifier identifier) {
+        return new ResolutionPlan(identifier, identifier, null, NO_DEPENDENCIES, -1);
+    }
+
+    ObjectIdentifier getOriginalIdentifier() {
+        return originalIdentifier;
+    }
+
+    /**
+     * @return the resolution, or {@code null} if the plan is deferred
+     */
+    @Nullable
+    Resolution<?> getResolution() {
+        return resolution;
+    }
+
+    ResolutionPlan[] getDependencies() {
+        return dependencies;
+    }
+
+    int getHandlersVersion() {
+        return handlersVersion;
+    }
+
+    /**
+     * Returns whether this plan may only be run by the injector it was compiled by. This is the case if
+     * a resolution of the plan is bound to the injector, or if the plan contains the resolution of a singleton,
+     * which depends on the singletons the injector has.
+     *
+     * @return true if the plan is bound to the injector it was compiled by, false otherwise
+     */
+    boolean isBoundToInjector() {
+        return boundToInjector;
+    }
+
+    private static boolean isBoundToInjector(@Nullable Resolution<?> resolution, ResolutionPlan[] dependencies) {
+        if (resolution != null && resolution.isBoundToInjector()) {
+            return true;
+        }
+        for (ResolutionPlan dependency : dependencies) {
+            if (dependency.boundToInjector || dependency.resolution != null
+                && dependency.identifier.getResolutionType() == StandardResolutionType.SINGLETON) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates the context to create the object with, as the handlers would see it.
+     *
+     * @param injector the injector
+     * @param parent the parent context, null for the root object
+     * @return the context for this plan
+     */
+    ResolutionContext createContext(Injector injector, @Nullable ResolutionContext parent) {
+        ResolutionContext context = parent == null
+            ? new ResolutionContext(injector, originalIdentifier)
+            : parent.createChildContext(originalIdentifier);
+        if (identifier != originalIdentifier) {
+            context.setIdentifier(identifier);
+        }
+        return context;
+    }
+}
@@ -0,0 +1,81 @@
+package ch.jalu.injector;
+
+import ch.jalu.injector.exceptions.InjectorException;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lock held by the thread creating a singleton (concurrent mode only).
+ * <p>
+ * Singletons with cyclic dependencies may be requested by different threads in a different order, e.g. one thread
+ * requests A, which depends on B, while another thread requests B, which depends on A. Each thread then holds the
+ * lock of the singleton it is creating and waits for the lock of the other one. A thread waiting for a lock
+ * therefore periodically checks whether the threads it waits for (directly or indirectly) wait for it, and fails
+ * with an exception if they do.
+ */
+final class SingletonLock extends ReentrantLock {
+
+    /** Interval in which a waiting thread checks whether it is part of a deadlock. */
+    private static final long DEADLOCK_CHECK_INTERVAL_MILLIS = 50;
+    /** Lock each thread is currently waiting for. */
+    private static final Map<Thread, SingletonLock> AWAITED_LOCKS = new ConcurrentHashMap<>();
+
+    private final Class<?> singletonType;
+
+    SingletonLock(Class<?> singletonType) {
+        this.singletonType = singletonType;
+    }
+
+    /**
+     * Acquires the lock. Throws an exception if the thread holding the lock waits for a lock held by
+     * the current thread, i.e. if the threads would wait for each other forever.
+     */
+    void lockOrFailOnDeadlock() {
+        if (tryLock()) {
+            return;
+        }
+
+        final Thread currentThread = Thread.currentThread();
+        AWAITED_LOCKS.put(currentThread, this);
+        try {
+            while (!tryLock(DEADLOCK_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (isHeldByThreadWaitingFor(currentThread)) {
+                    throw new InjectorException("Found cyclic dependency: " + singletonType + " is being created by"
+                        + " another thread, which waits for a singleton being created by the current thread");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InjectorException("Interrupted while waiting for the creation of " + singletonType, e);
+        } finally {
+            AWAITED_LOCKS.remove(currentThread);
+        }
+    }
+
+    /**
+     * Returns whether the chain of threads holding this lock and the locks they wait for leads to the given thread.
+     *
+     * @param thread the thread to look for
+     * @return true if the thread holding this lock waits for the given thread, false otherwise
+     */
+    private boolean isHeldByThreadWaitingFor(Thread thread) {
+        Set<Thread> visitedThreads = new HashSet<>();
+        Thread owner = getOwner();
+        while (owner != null && visitedThreads.add(owner)) {
+            SingletonLock awaitedLock = AWAITED_LOCKS.get(owner);
+            if (awaitedLock == null) {
+                return false;
+            }
+            owner = awaitedLock.getOwner();
+            if (owner == thread) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
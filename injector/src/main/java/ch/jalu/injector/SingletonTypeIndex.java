@@ -0,0 +1,102 @@
+package ch.jalu.injector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Index of singletons by all of their supertypes, so that all singletons of a given type can be looked up
+ * without checking every singleton. Singletons are kept in the order in which they were added.
+ * <p>
+ * The list returned for a type is an unmodifiable snapshot which is reused until a singleton of that type
+ * is added. This class is thread-safe.
+ */
+final class SingletonTypeIndex {
+
+    /** Singletons by every class and interface they implement. */
+    private final Map<Class<?>, List<Object>> singletonsByType = new HashMap<>();
+    /** Snapshots of the singletons by type, removed when a singleton of the type is added. */
+    private final Map<Class<?>, List<?>> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the given singleton to the index.
+     *
+     * @param singleton the singleton to add
+     */
+    synchronized void add(Object singleton) {
+        for (Class<?> type : collectSupertypes(singleton.getClass())) {
+            singletonsByType.computeIfAbsent(type, t -> new ArrayList<>()).add(singleton);
+            snapshots.remove(type);
+        }
+    }
+
+    /**
+     * Returns all singletons which are an instance of the given type.
+     *
+     * @param type the type to get the singletons of
+     * @param <T> the type
+     * @return unmodifiable list of the singletons of the given type
+     */
+    @SuppressWarnings("unchecked")
+    <T> List<T> getAllOfType(Class<T> type) {
+        if (type.isArray()) {
+            return (List<T>) getAllOfArrayType(type);
+        }
+        List<?> snapshot = snapshots.get(type);
+        if (snapshot == null) {
+            snapshot = createSnapshot(type);
+        }
+        return (List<T>) snapshot;
+    }
+
+    private synchronized List<?> createSnapshot(Class<?> type) {
+        List<Object> singletons = singletonsByType.get(type);
+        List<?> snapshot = singletons == null
+            ? Collections.emptyList()
+            : Collections.unmodifiableList(new ArrayList<>(singletons));
+        snapshots.put(type, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Returns all singletons of the given array type. Arrays are covariant (e.g. a {@code String[]} is also
+     * an {@code Object[]}), which is not reflected by the supertypes of an array's class, so all singletons
+     * have to be checked.
+     *
+     * @param arrayType the array type to get the singletons of
+     * @return unmodifiable list of the singletons of the given type
+     */
+    private synchronized List<?> getAllOfArrayType(Class<?> arrayType) {
+        return Collections.unmodifiableList(singletonsByType.getOrDefault(Object.class, Collections.emptyList())
+            .stream()
+            .filter(arrayType::isInstance)
+            .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the given class and all of its superclasses and interfaces.
+     *
+     * @param clazz the class to process
+     * @return all types the class is assignable to
+     */
+    private static Set<Class<?>> collectSupertypes(Class<?> clazz) {
+        Set<Class<?>> supertypes = new LinkedHashSet<>();
+        addWithSupertypes(clazz, supertypes);
+        return supertypes;
+    }
+
+    private static void addWithSupertypes(Class<?> clazz, Set<Class<?>> supertypes) {
+        if (clazz != null && supertypes.add(clazz)) {
+            addWithSupertypes(clazz.getSuperclass(), supertypes);
+            for (Class<?> interfaceType : clazz.getInterfaces()) {
+                addWithSupertypes(interfaceType, supertypes);
+            }
+        }
+    }
+}
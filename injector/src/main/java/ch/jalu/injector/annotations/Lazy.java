@@ -0,0 +1,17 @@
+package ch.jalu.injector.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks that a dependency should be injected as a proxy which only retrieves the actual singleton once
+ * one of its methods is called. Only supported for interface types; use {@link ch.jalu.injector.factory.Lazy}
+ * for other types.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+public @interface Lazy {
+
+}
@@ -7,20 +7,29 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Identifies objects.
+ * <p>
+ * Identifiers are equal if they have the same resolution type, the same type and the same annotations,
+ * irrespective of the annotations' order. The hash code is computed once on creation, so identifiers can be
+ * used as keys for caches cheaply. Use an {@link ObjectIdentifierPool} to share equal identifiers.
  */
 public class ObjectIdentifier {
 
     private final ResolutionType resolutionType;
     private final Type type;
     private final List<Annotation> annotations;
+    private final int hashCode;
+    /** The type as class, determined on first use. */
+    private Class<?> typeAsClass;
 
     public ObjectIdentifier(ResolutionType resolutionType, Type type, Annotation... annotations) {
         this.resolutionType = resolutionType;
         this.type = type;
         this.annotations = Arrays.asList(annotations);
+        this.hashCode = computeHashCode();
     }
 
     /**
@@ -55,6 +64,41 @@ public class ObjectIdentifier {
      * @return the type as class
      */
     public Class<?> getTypeAsClass() {
+        // Class objects can be safely published without synchronization
+        Class<?> result = typeAsClass;
+        if (result == null) {
+            result = determineTypeAsClass();
+            typeAsClass = result;
+        }
+        return result;
+    }
+
+    public List<Annotation> getAnnotations() {
+        return annotations;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (!(obj instanceof ObjectIdentifier)) {
+            return false;
+        }
+        ObjectIdentifier other = (ObjectIdentifier) obj;
+        return hashCode == other.hashCode
+            && Objects.equals(resolutionType, other.resolutionType)
+            && Objects.equals(type, other.type)
+            && annotations.size() == other.annotations.size()
+            && annotations.containsAll(other.annotations)
+            && other.annotations.containsAll(annotations);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    private Class<?> determineTypeAsClass() {
         if (type instanceof Class<?>) {
             return (Class<?>) type;
         } else if (type instanceof ParameterizedType) {
@@ -69,8 +113,13 @@ public class ObjectIdentifier {
             + ") cannot be converted to Class");
     }
 
-    public List<Annotation> getAnnotations() {
-        return annotations;
+    private int computeHashCode() {
+        // Sum of the annotations' hash codes so that the order of the annotations is irrelevant
+        int annotationsHash = 0;
+        for (Annotation annotation : annotations) {
+            annotationsHash += annotation.hashCode();
+        }
+        return 31 * (31 * Objects.hashCode(resolutionType) + Objects.hashCode(type)) + annotationsHash;
     }
 
     @Override
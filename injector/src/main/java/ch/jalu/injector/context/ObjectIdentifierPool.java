@@ -0,0 +1,42 @@
+package ch.jalu.injector.context;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pool of {@link ObjectIdentifier} instances, returning the same instance for equal identifiers.
+ * Useful to reduce the memory used by long-lived caches keyed by identifiers, and to make lookups
+ * mostly succeed with the identity check of {@link ObjectIdentifier#equals}.
+ * <p>
+ * Identifiers are kept as long as the pool is referenced. This class is thread-safe.
+ */
+public class ObjectIdentifierPool {
+
+    private final Map<ObjectIdentifier, ObjectIdentifier> identifiers = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the pooled identifier equal to the given one. The given identifier is added to the pool
+     * and returned if the pool does not have an equal identifier yet.
+     *
+     * @param identifier the identifier to intern
+     * @return the pooled identifier equal to the given one
+     */
+    public ObjectIdentifier intern(ObjectIdentifier identifier) {
+        ObjectIdentifier pooledIdentifier = identifiers.putIfAbsent(identifier, identifier);
+        return pooledIdentifier == null ? identifier : pooledIdentifier;
+    }
+
+    /**
+     * @return the number of identifiers in the pool
+     */
+    public int size() {
+        return identifiers.size();
+    }
+
+    /**
+     * Removes all identifiers from the pool.
+     */
+    public void clear() {
+        identifiers.clear();
+    }
+}
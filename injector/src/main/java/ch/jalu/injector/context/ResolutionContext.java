@@ -3,7 +3,10 @@ package ch.jalu.injector.context;
 import ch.jalu.injector.Injector;
 import ch.jalu.injector.exceptions.InjectorException;
 
-import java.util.ArrayList;
+import javax.annotation.Nullable;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -16,7 +19,15 @@ public class ResolutionContext {
     private final Injector injector;
     private final ObjectIdentifier originalIdentifier;
     private ObjectIdentifier identifier;
-    private List<ResolutionContext> parents = new ArrayList<>();
+    /* Parents are not copied to each child, but are shared through the reference to the parent. */
+    @Nullable
+    private final ResolutionContext parent;
+    private final ResolutionContext root;
+    private final int depth;
+    /** List of all parents, created on demand. */
+    private List<ResolutionContext> parents;
+    /** Path used to look up the types of parents (root context only), created on demand. */
+    private volatile ResolutionPath path;
 
     /**
      * Creates a new resolution context with no predecessors.
@@ -25,9 +36,16 @@ public class ResolutionContext {
      * @param identifier the identifier of the object to create
      */
     public ResolutionContext(Injector injector, ObjectIdentifier identifier) {
+        this(injector, identifier, null);
+    }
+
+    private ResolutionContext(Injector injector, ObjectIdentifier identifier, @Nullable ResolutionContext parent) {
         this.injector = injector;
         this.originalIdentifier = identifier;
         this.identifier = identifier;
+        this.parent = parent;
+        this.root = parent == null ? this : parent.root;
+        this.depth = parent == null ? 0 : parent.depth + 1;
     }
 
     /**
@@ -45,10 +63,71 @@ public class ResolutionContext {
         return identifier;
     }
 
+    /**
+     * Returns all parents of this context, starting with the root context. The returned list is unmodifiable.
+     *
+     * @return the parents of this context (empty list if this is the root context)
+     */
     public List<ResolutionContext> getParents() {
+        if (parents == null) {
+            ResolutionContext[] parentArray = new ResolutionContext[depth];
+            ResolutionContext current = parent;
+            for (int i = depth - 1; i >= 0; --i) {
+                parentArray[i] = current;
+                current = current.parent;
+            }
+            parents = Collections.unmodifiableList(Arrays.asList(parentArray));
+        }
         return parents;
     }
 
+    /**
+     * @return the direct parent of this context, null if this is the root context
+     */
+    @Nullable
+    public ResolutionContext getParent() {
+        return parent;
+    }
+
+    /**
+     * @return the context the resolution was started with (this context if it has no parent)
+     */
+    public ResolutionContext getRoot() {
+        return root;
+    }
+
+    /**
+     * @return the number of parents this context has
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the first parent (starting from the root) whose identifier has the given type. Takes constant time
+     * on average if the contexts are resolved depth-first, which is the way the injector creates them.
+     *
+     * @param type the type to look for
+     * @return the first parent with the given type, null if there is none
+     */
+    @Nullable
+    public ResolutionContext findParentWithType(Type type) {
+        if (parent == null) {
+            return null;
+        }
+        if (!root.getPath().containsType(parent, type)) {
+            return null;
+        }
+
+        ResolutionContext match = null;
+        for (ResolutionContext current = parent; current != null; current = current.parent) {
+            if (current.identifier.getType().equals(type)) {
+                match = current;
+            }
+        }
+        return match;
+    }
+
     /**
      * Sets the class to instantiate an object of.
      *
@@ -63,6 +142,17 @@ public class ResolutionContext {
         }
     }
 
+    private ResolutionPath getPath() {
+        if (path == null) {
+            synchronized (this) {
+                if (path == null) {
+                    path = new ResolutionPath();
+                }
+            }
+        }
+        return path;
+    }
+
     /**
      * Creates a context for the given identifier with this context as parent.
      *
@@ -70,9 +160,6 @@ public class ResolutionContext {
      * @return the child context
      */
     public ResolutionContext createChildContext(ObjectIdentifier identifier) {
-        ResolutionContext child = new ResolutionContext(injector, identifier);
-        child.parents.addAll(this.parents);
-        child.parents.add(this);
-        return child;
+        return new ResolutionContext(injector, identifier, this);
     }
 }
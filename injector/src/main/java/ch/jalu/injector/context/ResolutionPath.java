@@ -0,0 +1,78 @@
+package ch.jalu.injector.context;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps track of the types of a context and all of its parents, allowing to check whether a type is among
+ * them in constant time. Shared by all contexts of a resolution (see {@link ResolutionContext#getRoot()}).
+ * <p>
+ * The path is moved to the context that is queried: as the injector resolves contexts depth-first, the queried
+ * context is usually already on the path or is a child of the last context on it, so that only the last entries
+ * need to be replaced. Otherwise, the path is rebuilt from the context's parents. This class is thread-safe so that
+ * contexts of one resolution may be processed by multiple threads.
+ */
+final class ResolutionPath {
+
+    private ResolutionContext[] contexts = new ResolutionContext[16];
+    private Type[] types = new Type[16];
+    private int size;
+    private final Map<Type, Integer> typeCounts = new HashMap<>();
+
+    /**
+     * Returns whether the given context or any of its parents has an identifier with the given type.
+     *
+     * @param context the context whose types should be checked
+     * @param type the type to look for
+     * @return true if the type was found, false otherwise
+     */
+    synchronized boolean containsType(ResolutionContext context, Type type) {
+        moveTo(context);
+        return typeCounts.containsKey(type);
+    }
+
+    private void moveTo(ResolutionContext context) {
+        final int depth = context.getDepth();
+        if (depth < size && contexts[depth] == context) {
+            truncate(depth + 1);
+            if (!types[depth].equals(context.getIdentifier().getType())) {
+                // The identifier of the context was changed since it was added
+                truncate(depth);
+                add(context);
+            }
+        } else if (depth == 0 || depth - 1 < size && contexts[depth - 1] == context.getParent()) {
+            truncate(depth);
+            add(context);
+        } else {
+            truncate(0);
+            for (ResolutionContext parent : context.getParents()) {
+                add(parent);
+            }
+            add(context);
+        }
+    }
+
+    private void add(ResolutionContext context) {
+        if (size == contexts.length) {
+            contexts = Arrays.copyOf(contexts, size * 2);
+            types = Arrays.copyOf(types, size * 2);
+        }
+        Type type = context.getIdentifier().getType();
+        contexts[size] = context;
+        types[size] = type;
+        ++size;
+        typeCounts.merge(type, 1, Integer::sum);
+    }
+
+    private void truncate(int newSize) {
+        while (size > newSize) {
+            --size;
+            Type type = types[size];
+            typeCounts.computeIfPresent(type, (t, count) -> count == 1 ? null : count - 1);
+            contexts[size] = null;
+            types[size] = null;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package ch.jalu.injector.factory;
+
+/**
+ * Injectable lazy reference to a singleton. The singleton is only retrieved from the injector (and created if
+ * it does not exist yet) when {@link #get} is called for the first time.
+ * <p>
+ * Use this for expensive dependencies which are rarely needed, so that they are not created together with
+ * the object that depends on them.
+ *
+ * @param <T> the type of the singleton
+ */
+public interface Lazy<T> {
+
+    /**
+     * Returns the singleton, creating it on the first call if needed. All calls return the same object.
+     *
+     * @return the singleton
+     */
+    T get();
+
+}
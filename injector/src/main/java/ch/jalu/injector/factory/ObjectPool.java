@@ -0,0 +1,84 @@
+package ch.jalu.injector.factory;
+
+/**
+ * Injectable pool of instances of a certain type, for request-scoped objects which are expensive to create.
+ * Instead of creating a new instance for every request, an instance is acquired from the pool and released
+ * back to it once it is no longer used. If the pool is empty, a new instance is created by the injector.
+ *
+ * @param <T> the type of the pooled instances
+ * @see ch.jalu.injector.handlers.dependency.PoolDependencyHandler
+ */
+public interface ObjectPool<T> {
+
+    /**
+     * Returns an idle instance from the pool, or a new instance if the pool is empty.
+     *
+     * @return instance to use
+     */
+    T acquire();
+
+    /**
+     * Returns the given instance to the pool after running the pool's reset hook on it, if any. The instance
+     * is discarded if the pool is full. The instance may not be used anymore after it has been released.
+     *
+     * @param instance the instance to release
+     */
+    void release(T instance);
+
+    /**
+     * @return snapshot of the pool's statistics
+     */
+    Stats getStats();
+
+    /**
+     * Statistics of an {@link ObjectPool}.
+     */
+    final class Stats {
+
+        private final long hitCount;
+        private final long missCount;
+        private final long discardCount;
+        private final int idleCount;
+
+        public Stats(long hitCount, long missCount, long discardCount, int idleCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.discardCount = discardCount;
+            this.idleCount = idleCount;
+        }
+
+        /**
+         * @return number of times an idle instance was acquired from the pool
+         */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * @return number of times a new instance had to be created
+         */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * @return number of released instances which were discarded because the pool was full
+         */
+        public long getDiscardCount() {
+            return discardCount;
+        }
+
+        /**
+         * @return number of idle instances in the pool
+         */
+        public int getIdleCount() {
+            return idleCount;
+        }
+
+        @Override
+        public String toString() {
+            return "ObjectPool.Stats[hits=" + hitCount + ", misses=" + missCount
+                + ", discards=" + discardCount + ", idle=" + idleCount + "]";
+        }
+    }
+}
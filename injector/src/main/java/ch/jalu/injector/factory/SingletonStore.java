@@ -19,14 +19,14 @@ public interface SingletonStore<P> {
     <C extends P> C getSingleton(Class<C> clazz);
 
     /**
-     * Returns all existing singletons of this store's type.
+     * Returns all existing singletons of this store's type. The returned collection is unmodifiable.
      *
      * @return all registered singletons of type {@code P}
      */
     Collection<P> retrieveAllOfType();
 
     /**
-     * Returns all existing singletons of the given type.
+     * Returns all existing singletons of the given type. The returned collection is unmodifiable.
      *
      * @param clazz the type to get singletons for
      * @param <C> class type
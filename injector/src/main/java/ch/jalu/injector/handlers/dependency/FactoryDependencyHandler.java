@@ -24,7 +24,7 @@ public class FactoryDependencyHandler implements Handler {
                     + "Cannot get generic type for field in '" + context.getIdentifier().getTypeAsClass() + "'");
             }
 
-            return new SimpleResolution<>(new FactoryImpl<>(genericType, context.getInjector()));
+            return new SimpleResolution<>(new FactoryImpl<>(genericType, context.getInjector()), true);
         }
         return null;
     }
@@ -0,0 +1,93 @@
+package ch.jalu.injector.handlers.dependency;
+
+import ch.jalu.injector.factory.ObjectPool;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static ch.jalu.injector.utils.InjectorUtils.checkNotNull;
+
+/**
+ * Bounded object pool without locks: idle instances are kept in a fixed number of slots which are taken and
+ * filled with compare-and-set operations. Threads start looking for a slot at a position derived from their ID,
+ * so that threads acquiring and releasing instances concurrently mostly work on different slots.
+ *
+ * @param <T> the type of the pooled instances
+ */
+final class LockFreeObjectPool<T> implements ObjectPool<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final Supplier<? extends T> instanceCreator;
+    @Nullable
+    private final Consumer<? super T> resetHook;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder discardCount = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize the maximum number of idle instances to keep
+     * @param instanceCreator supplier of new instances, called when the pool is empty
+     * @param resetHook function to run on instances when they are released, or null if not needed
+     */
+    LockFreeObjectPool(int maximumSize, Supplier<? extends T> instanceCreator,
+                       @Nullable Consumer<? super T> resetHook) {
+        this.slots = new AtomicReferenceArray<>(maximumSize);
+        this.instanceCreator = instanceCreator;
+        this.resetHook = resetHook;
+    }
+
+    @Override
+    public T acquire() {
+        final int size = slots.length();
+        final int start = getStartIndex(size);
+        for (int i = 0; i < size; ++i) {
+            int index = (start + i) % size;
+            T instance = slots.get(index);
+            if (instance != null && slots.compareAndSet(index, instance, null)) {
+                hitCount.increment();
+                return instance;
+            }
+        }
+        missCount.increment();
+        return instanceCreator.get();
+    }
+
+    @Override
+    public void release(T instance) {
+        checkNotNull(instance, "Instance to release may not be null");
+        if (resetHook != null) {
+            resetHook.accept(instance);
+        }
+
+        final int size = slots.length();
+        final int start = getStartIndex(size);
+        for (int i = 0; i < size; ++i) {
+            int index = (start + i) % size;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, instance)) {
+                return;
+            }
+        }
+        discardCount.increment();
+    }
+
+    @Override
+    public Stats getStats() {
+        int idleCount = 0;
+        for (int i = 0; i < slots.length(); ++i) {
+            if (slots.get(i) != null) {
+                ++idleCount;
+            }
+        }
+        return new Stats(hitCount.sum(), missCount.sum(), discardCount.sum(), idleCount);
+    }
+
+    private static int getStartIndex(int size) {
+        return (int) (Thread.currentThread().getId() % size);
+    }
+}
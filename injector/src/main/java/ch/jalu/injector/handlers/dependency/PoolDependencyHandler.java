@@ -0,0 +1,122 @@
+package ch.jalu.injector.handlers.dependency;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorImpl;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.factory.ObjectPool;
+import ch.jalu.injector.handlers.Handler;
+import ch.jalu.injector.handlers.instantiation.Resolution;
+import ch.jalu.injector.handlers.instantiation.SimpleResolution;
+import ch.jalu.injector.utils.InjectorUtils;
+import ch.jalu.injector.utils.ReflectionUtils;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Dependency handler that provides {@link ObjectPool} objects. There is one pool per type, shared by all
+ * objects that depend on it. New instances are created with {@link Injector#newInstance} of the root injector,
+ * as the pool outlives the {@link Injector#createChildInjector child injectors} it may be requested by.
+ * <p>
+ * Pools keep up to the default maximum size of idle instances, unless configured otherwise for the type with
+ * {@link #configurePool}. This handler is not included by default.
+ */
+public class PoolDependencyHandler implements Handler {
+
+    /** Default maximum number of idle instances per pool. */
+    public static final int DEFAULT_MAXIMUM_SIZE = 16;
+
+    private final int defaultMaximumSize;
+    private final Map<Class<?>, PoolSettings<?>> settingsByType = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectPool<?>> pools = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor. Pools keep up to {@link #DEFAULT_MAXIMUM_SIZE} idle instances by default.
+     */
+    public PoolDependencyHandler() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param defaultMaximumSize the maximum number of idle instances of pools not configured otherwise
+     */
+    public PoolDependencyHandler(int defaultMaximumSize) {
+        InjectorUtils.checkArgument(defaultMaximumSize > 0, "Maximum size must be positive");
+        this.defaultMaximumSize = defaultMaximumSize;
+    }
+
+    /**
+     * Configures the pool of the given type. Must be called before the pool is first requested.
+     *
+     * @param clazz the type of the pooled instances
+     * @param maximumSize the maximum number of idle instances to keep
+     * @param resetHook function to run on instances when they are released to the pool, null if not needed
+     * @param <T> the type
+     */
+    public <T> void configurePool(Class<T> clazz, int maximumSize, @Nullable Consumer<? super T> resetHook) {
+        InjectorUtils.checkNotNull(clazz, "Class may not be null");
+        InjectorUtils.checkArgument(maximumSize > 0, "Maximum size must be positive");
+        PoolSettings<T> settings = new PoolSettings<>(maximumSize, resetHook);
+        // Computing on the pools map excludes the pool from being created while the settings are saved
+        pools.compute(clazz, (type, pool) -> {
+            if (pool != null) {
+                throw new InjectorException("Pool for " + clazz + " was already created and cannot be configured");
+            }
+            settingsByType.put(clazz, settings);
+            return null;
+        });
+    }
+
+    @Override
+    public Resolution<?> resolve(ResolutionContext context) {
+        if (ObjectPool.class.equals(context.getIdentifier().getTypeAsClass())) {
+            Class<?> genericType = ReflectionUtils.getGenericType(context.getIdentifier().getType());
+            if (genericType == null) {
+                throw new InjectorException("ObjectPool fields must have concrete generic type. "
+                    + "Cannot get generic type for field in '" + context.getIdentifier().getTypeAsClass() + "'");
+            }
+            return new SimpleResolution<>(getOrCreatePool(genericType, context.getInjector()));
+        }
+        return null;
+    }
+
+    /**
+     * Returns the pool of the given type, creating it if needed.
+     *
+     * @param clazz the type of the pooled instances
+     * @param injector the injector requesting the pool; new instances are created with its root injector
+     * @param <T> the type
+     * @return the pool
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ObjectPool<T> getOrCreatePool(Class<T> clazz, Injector injector) {
+        return (ObjectPool<T>) pools.computeIfAbsent(clazz, type -> {
+            // Child injectors are short-lived and have request-local objects: never keep them in the pool
+            final Injector rootInjector = injector instanceof InjectorImpl
+                ? ((InjectorImpl) injector).getRootInjector()
+                : injector;
+            PoolSettings<? super T> settings = (PoolSettings<? super T>) settingsByType.get(clazz);
+            return settings == null
+                ? new LockFreeObjectPool<>(defaultMaximumSize, () -> rootInjector.newInstance(clazz), null)
+                : new LockFreeObjectPool<>(settings.maximumSize, () -> rootInjector.newInstance(clazz),
+                    settings.resetHook);
+        });
+    }
+
+    private static final class PoolSettings<T> {
+
+        private final int maximumSize;
+        @Nullable
+        private final Consumer<? super T> resetHook;
+
+        PoolSettings(int maximumSize, @Nullable Consumer<? super T> resetHook) {
+            this.maximumSize = maximumSize;
+            this.resetHook = resetHook;
+        }
+    }
+}
@@ -25,7 +25,7 @@ public class SingletonStoreDependencyHandler implements Handler {
                     + "Cannot get generic type for field in '" + context.getIdentifier().getTypeAsClass() + "'");
             }
 
-            return new SimpleResolution<>(new SingletonStoreImpl<>(genericType, context.getInjector()));
+            return new SimpleResolution<>(new SingletonStoreImpl<>(genericType, context.getInjector()), true);
         }
         return null;
     }
@@ -23,6 +23,11 @@ public class DefaultInjectionProvider extends StandardInjectionProvider {
     private final String rootPackage;
 
     public DefaultInjectionProvider(String rootPackage) {
+        this(rootPackage, StandardInstantiationStrategy.REFLECTION);
+    }
+
+    public DefaultInjectionProvider(String rootPackage, InstantiationStrategy instantiationStrategy) {
+        super(instantiationStrategy);
         this.rootPackage = rootPackage;
     }
 
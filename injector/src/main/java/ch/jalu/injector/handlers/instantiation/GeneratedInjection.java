@@ -0,0 +1,54 @@
+package ch.jalu.injector.handlers.instantiation;
+
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.exceptions.InjectorReflectionException;
+import ch.jalu.injector.utils.InjectorUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+
+/**
+ * Injection of a class with its {@link InjectionDescriptor generated descriptor}.
+ *
+ * @param <T> the type of the class
+ * @see StandardInjectionProvider
+ */
+class GeneratedInjection<T> implements Resolution<T> {
+
+    private final Class<T> clazz;
+    private final InjectionDescriptor<T> descriptor;
+    private List<ObjectIdentifier> dependencies;
+
+    GeneratedInjection(Class<T> clazz, InjectionDescriptor<T> descriptor) {
+        this.clazz = clazz;
+        this.descriptor = descriptor;
+    }
+
+    @Override
+    public List<ObjectIdentifier> getDependencies() {
+        if (dependencies == null) {
+            dependencies = descriptor.getDependencies();
+        }
+        return dependencies;
+    }
+
+    @Override
+    public T instantiateWith(Object... values) {
+        InjectorUtils.checkArgument(values.length == getDependencies().size(),
+            "Number of values does not correspond to the expected number");
+        try {
+            return descriptor.instantiate(values);
+        } catch (VirtualMachineError e) {
+            throw e;
+        } catch (Throwable t) {
+            // Wrap the exception (or error) as the reflective instantiation would for a consistent cause hierarchy
+            throw new InjectorReflectionException("Could not create instance of class '" + clazz + "'",
+                new InvocationTargetException(t));
+        }
+    }
+
+    @Override
+    public boolean isInstantiation() {
+        return true;
+    }
+}
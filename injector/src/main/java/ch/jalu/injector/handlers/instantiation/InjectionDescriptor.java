@@ -0,0 +1,47 @@
+package ch.jalu.injector.handlers.instantiation;
+
+import ch.jalu.injector.context.ObjectIdentifier;
+
+import java.util.List;
+
+/**
+ * Injection metadata of a class, generated at compile time by the annotation processor of the
+ * {@code injector-processor} module. If a class has a descriptor, it is used instead of reflection to determine
+ * the class' dependencies, to create instances and to run the class' {@code @PostConstruct} methods.
+ * <p>
+ * Descriptors are only generated for classes whose constructor, {@code @Inject} fields and {@code @PostConstruct}
+ * methods are accessible from the class' package and which are valid for all standard injection providers.
+ * All other classes are processed with reflection as usual.
+ *
+ * @param <T> the type of the described class
+ * @see InjectionDescriptors#find
+ */
+public interface InjectionDescriptor<T> {
+
+    /**
+     * Returns the dependencies needed to create an instance: the constructor parameters, followed by
+     * the fields to inject.
+     *
+     * @return the dependencies
+     */
+    List<ObjectIdentifier> getDependencies();
+
+    /**
+     * Creates an instance with the given values and sets the fields to inject.
+     *
+     * @param values the values, matching the {@link #getDependencies() dependencies}
+     * @return the new instance
+     * @throws Exception thrown by the constructor
+     */
+    T instantiate(Object[] values) throws Exception;
+
+    /**
+     * Runs the {@code @PostConstruct} methods of the class and its parents on the given instance,
+     * starting with the top-most parent.
+     *
+     * @param instance the instance to process
+     * @throws Exception thrown by a {@code @PostConstruct} method
+     */
+    void invokePostConstruct(T instance) throws Exception;
+
+}
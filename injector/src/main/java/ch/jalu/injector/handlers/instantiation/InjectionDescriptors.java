@@ -0,0 +1,122 @@
+package ch.jalu.injector.handlers.instantiation;
+
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.exceptions.InjectorReflectionException;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Optional;
+
+import static ch.jalu.injector.context.StandardResolutionType.SINGLETON;
+
+/**
+ * Finds the {@link InjectionDescriptor generated injection descriptors} of classes. Also contains methods
+ * used by the generated code.
+ */
+public final class InjectionDescriptors {
+
+    /**
+     * Suffix of the name of generated descriptor classes. The descriptor of {@code com.acme.Outer$Inner}
+     * is {@code com.acme.Outer_Inner_InjectionDescriptor}.
+     */
+    public static final String CLASS_NAME_SUFFIX = "_InjectionDescriptor";
+
+    private static final ClassValue<Optional<InjectionDescriptor<?>>> DESCRIPTORS =
+        new ClassValue<Optional<InjectionDescriptor<?>>>() {
+            @Override
+            protected Optional<InjectionDescriptor<?>> computeValue(Class<?> type) {
+                return Optional.ofNullable(loadDescriptor(type));
+            }
+        };
+
+    private InjectionDescriptors() {
+    }
+
+    /**
+     * Returns the generated descriptor of the given class, or null if the class does not have any.
+     * The result is cached per class.
+     *
+     * @param clazz the class to get the descriptor for
+     * @param <T> the class' type
+     * @return the descriptor, or null if not available
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> InjectionDescriptor<T> find(Class<T> clazz) {
+        return (InjectionDescriptor<T>) DESCRIPTORS.get(clazz).orElse(null);
+    }
+
+    /**
+     * Returns the name of the class which is generated as descriptor for the given class.
+     *
+     * @param clazz the class to get the descriptor class name for
+     * @return the descriptor class name
+     */
+    public static String getDescriptorClassName(Class<?> clazz) {
+        String className = clazz.getName();
+        int packageEnd = className.lastIndexOf('.') + 1;
+        return className.substring(0, packageEnd)
+            + className.substring(packageEnd).replace('$', '_') + CLASS_NAME_SUFFIX;
+    }
+
+    /**
+     * Creates the identifier of an {@code @Inject} field. Used by generated descriptors for fields whose
+     * generic type or annotations cannot be expressed in source code.
+     *
+     * @param declaringClass the class declaring the field
+     * @param fieldName the name of the field
+     * @return identifier of the field
+     */
+    public static ObjectIdentifier fieldIdentifier(Class<?> declaringClass, String fieldName) {
+        try {
+            Field field = declaringClass.getDeclaredField(fieldName);
+            return new ObjectIdentifier(SINGLETON, field.getGenericType(), field.getAnnotations());
+        } catch (NoSuchFieldException e) {
+            throw new InjectorReflectionException("Could not get field '" + fieldName + "' of " + declaringClass, e);
+        }
+    }
+
+    /**
+     * Creates the identifier of a constructor parameter. Used by generated descriptors for parameters whose
+     * generic type or annotations cannot be expressed in source code.
+     *
+     * @param clazz the class declaring the constructor
+     * @param index the index of the parameter
+     * @param parameterTypes the parameter types of the constructor
+     * @return identifier of the parameter
+     */
+    public static ObjectIdentifier constructorParameterIdentifier(Class<?> clazz, int index,
+                                                                  Class<?>... parameterTypes) {
+        try {
+            Constructor<?> constructor = clazz.getDeclaredConstructor(parameterTypes);
+            return new ObjectIdentifier(SINGLETON, constructor.getGenericParameterTypes()[index],
+                constructor.getParameterAnnotations()[index]);
+        } catch (NoSuchMethodException e) {
+            throw new InjectorReflectionException("Could not get constructor of " + clazz, e);
+        }
+    }
+
+    @Nullable
+    private static InjectionDescriptor<?> loadDescriptor(Class<?> clazz) {
+        ClassLoader classLoader = clazz.getClassLoader();
+        if (classLoader == null || clazz.isArray() || clazz.isPrimitive()) {
+            return null;
+        }
+
+        Class<?> descriptorClass;
+        try {
+            descriptorClass = Class.forName(getDescriptorClassName(clazz), true, classLoader);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        if (!InjectionDescriptor.class.isAssignableFrom(descriptorClass)) {
+            return null;
+        }
+        try {
+            return (InjectionDescriptor<?>) descriptorClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new InjectorReflectionException("Could not create injection descriptor of " + clazz, e);
+        }
+    }
+}
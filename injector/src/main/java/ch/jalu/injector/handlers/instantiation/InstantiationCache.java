@@ -1,5 +1,6 @@
 package ch.jalu.injector.handlers.instantiation;
 
+import ch.jalu.injector.context.ObjectIdentifier;
 import ch.jalu.injector.context.ResolutionContext;
 import ch.jalu.injector.context.StandardResolutionType;
 import ch.jalu.injector.handlers.Handler;
@@ -11,12 +12,15 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Primitive "cache" for instantiation methods. It is recommended to use a more suitable
- * cache structure instead, e.g. with Guava's CacheBuilder. As such, this handler is not
+ * cache structure instead, such as {@link ResolutionCache}. As such, this handler is not
  * included by default.
+ * <p>
+ * Entries are keyed by the entire {@link ObjectIdentifier}, so requests of the same type with
+ * different annotations have separate entries.
  */
 public class InstantiationCache implements Handler {
 
-    protected Map<Class, WeakReference<Resolution>> entries = new ConcurrentHashMap<>();
+    protected Map<ObjectIdentifier, WeakReference<Resolution>> entries = new ConcurrentHashMap<>();
 
     @Override
     public Resolution<?> resolve(ResolutionContext context) {
@@ -26,8 +30,7 @@ public class InstantiationCache implements Handler {
     @Override
     public <T> T postProcess(T object, ResolutionContext context, Resolution<?> resolution) {
         if (shouldCacheMethod(context) && getInstantiation(context) == null) {
-            // TODO #48: Refine this to go over the entire object identifier
-            entries.put(context.getIdentifier().getTypeAsClass(), new WeakReference<>(resolution));
+            entries.put(context.getIdentifier(), new WeakReference<>(resolution));
         }
         return null;
     }
@@ -35,7 +38,7 @@ public class InstantiationCache implements Handler {
     @Nullable
     @SuppressWarnings("unchecked")
     private <T> Resolution<? extends T> getInstantiation(ResolutionContext context) {
-        WeakReference<Resolution> instantiation = entries.get(context.getIdentifier().getTypeAsClass());
+        WeakReference<Resolution> instantiation = entries.get(context.getIdentifier());
         return instantiation == null ? null : instantiation.get();
     }
 
@@ -0,0 +1,35 @@
+package ch.jalu.injector.handlers.instantiation;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Creates the {@link Instantiator} with which a {@link StandardInjection} creates its objects.
+ *
+ * @see StandardInstantiationStrategy
+ */
+public interface InstantiationStrategy {
+
+    /**
+     * Creates an instantiator for the given constructor and fields. The instantiator is created once per
+     * resolution and may be invoked many times, so any expensive preparation should be done in this method.
+     *
+     * @param constructor the constructor to create objects with
+     * @param fields the fields to inject after instantiation
+     * @param <T> the type of the objects
+     * @return instantiator for the given members
+     */
+    <T> Instantiator<T> createInstantiator(Constructor<T> constructor, List<Field> fields);
+
+    /**
+     * Returns whether classes with a generated {@link InjectionDescriptor} should be instantiated with it.
+     * The descriptor is used instead of a constructor and fields, so no instantiator is created for such classes.
+     *
+     * @return true if injection descriptors should be used, false otherwise
+     */
+    default boolean usesInjectionDescriptors() {
+        return false;
+    }
+
+}
@@ -0,0 +1,21 @@
+package ch.jalu.injector.handlers.instantiation;
+
+/**
+ * Creates instances of a class and injects its fields.
+ *
+ * @param <T> the type of the instances
+ * @see InstantiationStrategy
+ */
+@FunctionalInterface
+public interface Instantiator<T> {
+
+    /**
+     * Creates a new instance with the given values. The values are the constructor arguments, followed by
+     * the values of the fields to inject.
+     *
+     * @param values the constructor arguments followed by the field values
+     * @return the created instance
+     */
+    T instantiate(Object[] values);
+
+}
@@ -0,0 +1,134 @@
+package ch.jalu.injector.handlers.instantiation;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.factory.Lazy;
+import ch.jalu.injector.handlers.Handler;
+import ch.jalu.injector.utils.ReflectionUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Handler for lazily resolved dependencies: creates {@link Lazy} objects, and proxies for dependencies
+ * annotated with {@link ch.jalu.injector.annotations.Lazy @Lazy}. In both cases, the singleton is only
+ * retrieved from the injector when it is used for the first time.
+ */
+public class LazyHandler implements Handler {
+
+    @Override
+    public Resolution<?> resolve(ResolutionContext context) {
+        final ObjectIdentifier identifier = context.getIdentifier();
+        final Class<?> clazz = identifier.getTypeAsClass();
+        if (Lazy.class.equals(clazz)) {
+            Class<?> genericType = ReflectionUtils.getGenericType(identifier.getType());
+            if (genericType == null) {
+                throw new InjectorException("Injection of a lazy object was requested but no generic type was given");
+            }
+            return new SimpleResolution<>(new LazyImpl<>(genericType, context.getInjector()), true);
+        } else if (hasLazyAnnotation(identifier)) {
+            if (!clazz.isInterface()) {
+                throw new InjectorException("@Lazy is only supported for interfaces, but found it on " + clazz
+                    + ". Use Lazy<T> as type instead");
+            }
+            return new SimpleResolution<>(createProxy(clazz, context.getInjector()), true);
+        }
+        return null;
+    }
+
+    private static boolean hasLazyAnnotation(ObjectIdentifier identifier) {
+        for (Annotation annotation : identifier.getAnnotations()) {
+            if (annotation.annotationType() == ch.jalu.injector.annotations.Lazy.class) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> T createProxy(Class<T> interfaceType, Injector injector) {
+        return interfaceType.cast(Proxy.newProxyInstance(interfaceType.getClassLoader(),
+            new Class<?>[]{ interfaceType }, new LazyProxyHandler<>(new LazyImpl<>(interfaceType, injector))));
+    }
+
+    /**
+     * Invocation handler of {@code @Lazy} proxies: forwards all calls to the singleton, retrieving it on first use.
+     * The methods of {@link Object} are handled by the proxy itself, so that e.g. putting the proxy into a hash set
+     * or logging it does not create the singleton.
+     *
+     * @param <T> the type of the singleton
+     */
+    private static final class LazyProxyHandler<T> implements InvocationHandler {
+
+        private final LazyImpl<T> lazy;
+
+        LazyProxyHandler(LazyImpl<T> lazy) {
+            this.lazy = lazy;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, method, args);
+            }
+            try {
+                method.setAccessible(true);
+                return method.invoke(lazy.get(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "LazyProxy[" + lazy.clazz.getName() + "]";
+                default:
+                    throw new IllegalStateException("Unexpected method " + method);
+            }
+        }
+    }
+
+    /**
+     * Lazy implementation which retrieves the singleton from the injector on first use.
+     * <p>
+     * No lock is held while the singleton is retrieved: the injector returns the same singleton to all threads,
+     * so concurrent first calls at worst retrieve it more than once. The volatile field then publishes it safely.
+     *
+     * @param <T> the type of the singleton
+     */
+    private static final class LazyImpl<T> implements Lazy<T> {
+
+        private final Class<T> clazz;
+        private final Injector injector;
+        private volatile T singleton;
+
+        LazyImpl(Class<T> clazz, Injector injector) {
+            this.clazz = clazz;
+            this.injector = injector;
+        }
+
+        @Override
+        public T get() {
+            T result = singleton;
+            if (result == null) {
+                result = injector.getSingleton(clazz);
+                singleton = result;
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "Lazy[" + clazz.getName() + "]";
+        }
+    }
+}
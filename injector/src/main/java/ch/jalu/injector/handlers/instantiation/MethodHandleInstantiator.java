@@ -0,0 +1,147 @@
+package ch.jalu.injector.handlers.instantiation;
+
+import ch.jalu.injector.exceptions.InjectorReflectionException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * Instantiator backed by a single method handle per class. The handle takes the entire values array,
+ * invokes the constructor with the first values and then sets all fields to inject with the remaining ones.
+ * No intermediate arrays are created and no access checks are performed per instantiation.
+ *
+ * @see StandardInstantiationStrategy#METHOD_HANDLES
+ */
+class MethodHandleInstantiator<T> implements Instantiator<T> {
+
+    private static final MethodType VALUES_TO_OBJECT = MethodType.methodType(Object.class, Object[].class);
+
+    private final Class<T> declaringClass;
+    private final MethodHandle instantiationHandle;
+
+    MethodHandleInstantiator(Constructor<T> constructor, List<Field> fields) {
+        this.declaringClass = constructor.getDeclaringClass();
+        this.instantiationHandle = createInstantiationHandle(constructor, fields);
+    }
+
+    @Override
+    public T instantiate(Object[] values) {
+        try {
+            return declaringClass.cast(instantiationHandle.invokeExact(values));
+        } catch (VirtualMachineError e) {
+            throw e;
+        } catch (Throwable t) {
+            // Wrap the exception (or error) as the reflective instantiator would for a consistent cause hierarchy
+            throw new InjectorReflectionException("Could not create instance of class '"
+                + declaringClass + "'", new InvocationTargetException(t));
+        }
+    }
+
+    /**
+     * Creates a method handle of type {@code (Object[])Object} which instantiates the class and injects
+     * its fields with the values from the given array.
+     *
+     * @param constructor the constructor to instantiate with
+     * @param fields the fields to inject
+     * @return the instantiation handle
+     */
+    private static MethodHandle createInstantiationHandle(Constructor<?> constructor, List<Field> fields) {
+        MethodHandle constructorHandle = createConstructorHandle(constructor);
+        if (fields.isEmpty()) {
+            return constructorHandle;
+        }
+
+        // (Object instance, Object[] values)Object: sets all fields, then returns the instance
+        MethodHandle returnInstance = MethodHandles.dropArguments(
+            MethodHandles.identity(Object.class), 1, Object[].class);
+        MethodHandle injectFields = MethodHandles.foldArguments(returnInstance,
+            createFieldInjector(fields, constructor.getParameterCount()));
+        return MethodHandles.foldArguments(injectFields, constructorHandle);
+    }
+
+    /**
+     * Creates a method handle of type {@code (Object[])Object} which invokes the given constructor with the
+     * first <i>n</i> entries of the array, <i>n</i> being the number of parameters of the constructor.
+     *
+     * @param constructor the constructor to create a handle for
+     * @return the adapted constructor handle
+     */
+    private static MethodHandle createConstructorHandle(Constructor<?> constructor) {
+        MethodHandle handle;
+        try {
+            constructor.setAccessible(true);
+            handle = MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            throw new InjectorReflectionException("Could not create method handle for constructor of class '"
+                + constructor.getDeclaringClass() + "'", e);
+        }
+        handle = handle.asType(handle.type().generic());
+
+        final int parameterCount = constructor.getParameterCount();
+        if (parameterCount == 0) {
+            return MethodHandles.dropArguments(handle, 0, Object[].class);
+        }
+
+        MethodHandle[] getters = new MethodHandle[parameterCount];
+        for (int i = 0; i < parameterCount; ++i) {
+            getters[i] = createElementGetter(i);
+        }
+        // (Object[], Object[], ...)Object -> (Object[])Object, passing the same array to all getters
+        return MethodHandles.permuteArguments(MethodHandles.filterArguments(handle, 0, getters),
+            VALUES_TO_OBJECT, new int[parameterCount]);
+    }
+
+    /**
+     * Creates a method handle of type {@code (Object, Object[])void} which sets all given fields on the instance
+     * (first argument). The value of the <i>i</i>-th field is taken from the array at index {@code offset + i}.
+     *
+     * @param fields the fields to set (not empty)
+     * @param offset the index of the first field's value in the values array
+     * @return handle setting all fields
+     */
+    private static MethodHandle createFieldInjector(List<Field> fields, int offset) {
+        MethodHandle injector = null;
+        for (int i = fields.size() - 1; i >= 0; --i) {
+            MethodHandle setter = createFieldSetter(fields.get(i), offset + i);
+            // Fold so that the setter is run before all subsequent ones
+            injector = injector == null ? setter : MethodHandles.foldArguments(injector, setter);
+        }
+        return injector;
+    }
+
+    /**
+     * Creates a method handle of type {@code (Object, Object[])void} setting the field on the instance
+     * with the value at the given index of the array.
+     *
+     * @param field the field to set
+     * @param index the index of the value in the array
+     * @return handle setting the field
+     */
+    private static MethodHandle createFieldSetter(Field field, int index) {
+        MethodHandle setter;
+        try {
+            field.setAccessible(true);
+            setter = MethodHandles.lookup().unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            throw new InjectorReflectionException("Could not create method handle for field '" + field + "'", e);
+        }
+
+        if (Modifier.isStatic(field.getModifiers())) {
+            // (value)void -> (Object, value)void
+            setter = MethodHandles.dropArguments(setter, 0, Object.class);
+        }
+        setter = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        // (Object, Object)void -> (Object, Object[])void
+        return MethodHandles.filterArguments(setter, 1, createElementGetter(index));
+    }
+
+    private static MethodHandle createElementGetter(int index) {
+        return MethodHandles.insertArguments(MethodHandles.arrayElementGetter(Object[].class), 1, index);
+    }
+}
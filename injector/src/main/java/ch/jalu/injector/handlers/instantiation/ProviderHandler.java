@@ -54,7 +54,7 @@ public class ProviderHandler implements Handler {
         ProviderBasedInstantiation<?> givenInstantiation = providers.get(genericType);
         if (givenInstantiation == null) {
             Provider<?> defaultProvider = () -> context.getInjector().newInstance(genericType);
-            return new SimpleResolution<>(defaultProvider);
+            return new SimpleResolution<>(defaultProvider, true);
         }
         return givenInstantiation.createProviderResolution();
     }
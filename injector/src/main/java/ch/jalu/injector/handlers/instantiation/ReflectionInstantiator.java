@@ -0,0 +1,54 @@
+package ch.jalu.injector.handlers.instantiation;
+
+import ch.jalu.injector.utils.ReflectionUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Instantiator using core reflection.
+ *
+ * @see StandardInstantiationStrategy#REFLECTION
+ */
+class ReflectionInstantiator<T> implements Instantiator<T> {
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private final Constructor<T> constructor;
+    private final int constructorParams;
+    private final Field[] fields;
+
+    ReflectionInstantiator(Constructor<T> constructor, List<Field> fields) {
+        this.constructor = constructor;
+        this.constructorParams = constructor.getParameterCount();
+        this.fields = fields.toArray(new Field[0]);
+    }
+
+    @Override
+    public T instantiate(Object[] values) {
+        // Constructor injection
+        T instance = ReflectionUtils.newInstance(constructor, getConstructorValues(values));
+
+        // Field injection
+        for (int i = 0; i < fields.length; ++i) {
+            ReflectionUtils.setField(fields[i], instance, values[i + constructorParams]);
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the constructor arguments from the given values. The values array is used as is if it only
+     * contains constructor arguments; otherwise, the constructor arguments are copied into a new array.
+     *
+     * @param values the constructor arguments followed by the field values
+     * @return the constructor arguments
+     */
+    private Object[] getConstructorValues(Object[] values) {
+        if (values.length == constructorParams) {
+            return values;
+        }
+        return constructorParams == 0 ? NO_ARGUMENTS : Arrays.copyOf(values, constructorParams);
+    }
+}
@@ -41,4 +41,15 @@ public interface Resolution<T> {
     default boolean isInstantiation() {
         return false;
     }
+
+    /**
+     * Returns whether this resolution is bound to the injector of the context it was created for, e.g. because
+     * the object it returns keeps a reference to the injector. Such resolutions are not reused by other injectors,
+     * such as child injectors.
+     *
+     * @return true if the resolution may only be used by the injector it was created for, false otherwise
+     */
+    default boolean isBoundToInjector() {
+        return false;
+    }
 }
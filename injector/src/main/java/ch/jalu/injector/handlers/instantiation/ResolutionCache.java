@@ -0,0 +1,208 @@
+package ch.jalu.injector.handlers.instantiation;
+
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.handlers.Handler;
+import ch.jalu.injector.utils.InjectorUtils;
+
+import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache for resolutions which instantiate objects, keyed by the entire {@link ObjectIdentifier}
+ * of the context. Unlike {@link InstantiationCache}, entries are strongly referenced and are only removed
+ * when the cache exceeds its maximum size. This handler should be the first handler, and it may only be used
+ * if the resolution of an identifier does not depend on anything else, such as the context's parents.
+ * <p>
+ * Eviction follows a segmented LRU policy: new entries are added to a probationary segment and are moved to
+ * a protected segment when they are requested again. Entries are evicted from the probationary segment, so
+ * that frequently used entries are not evicted by a burst of entries which are only used once. The protected
+ * segment takes up to 80% of the maximum size.
+ * <p>
+ * The cache keeps statistics on its hits, misses and evictions (see {@link #getStats()}), which can be used
+ * to choose an appropriate size. This class is thread-safe.
+ */
+public class ResolutionCache implements Handler {
+
+    private final int maximumSize;
+    private final int maximumProtectedSize;
+    /** Entries which were requested once, in order of least recent use. */
+    private final LinkedHashMap<ObjectIdentifier, Resolution<?>> probationEntries;
+    /** Entries which were requested multiple times, in order of least recent use. */
+    private final LinkedHashMap<ObjectIdentifier, Resolution<?>> protectedEntries;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize the maximum number of resolutions to keep (positive)
+     */
+    public ResolutionCache(int maximumSize) {
+        InjectorUtils.checkArgument(maximumSize > 0, "Maximum size must be positive");
+        this.maximumSize = maximumSize;
+        this.maximumProtectedSize = maximumSize * 4 / 5;
+        this.probationEntries = new LinkedHashMap<>(16, 0.75f, true);
+        this.protectedEntries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    @Override
+    public Resolution<?> resolve(ResolutionContext context) {
+        Resolution<?> resolution = get(context.getOriginalIdentifier());
+        if (resolution == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return resolution;
+    }
+
+    @Override
+    public <T> T postProcess(T object, ResolutionContext context, Resolution<?> resolution) {
+        if (shouldCache(context, resolution)) {
+            put(context.getOriginalIdentifier(), resolution);
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether the given resolution should be cached. Only resolutions which instantiate objects
+     * are processed by this handler.
+     *
+     * @param context the context of the resolution
+     * @param resolution the resolution
+     * @return true to cache the resolution, false otherwise
+     */
+    protected boolean shouldCache(ResolutionContext context, Resolution<?> resolution) {
+        return true;
+    }
+
+    /**
+     * @return snapshot of the cache's statistics
+     */
+    public Stats getStats() {
+        return new Stats(hitCount.sum(), missCount.sum(), evictionCount.sum(), size());
+    }
+
+    /**
+     * @return the number of cached resolutions
+     */
+    public synchronized int size() {
+        return probationEntries.size() + protectedEntries.size();
+    }
+
+    /**
+     * Removes all cached resolutions. The statistics are not reset.
+     */
+    public synchronized void clear() {
+        probationEntries.clear();
+        protectedEntries.clear();
+    }
+
+    @Nullable
+    private synchronized Resolution<?> get(ObjectIdentifier identifier) {
+        Resolution<?> resolution = protectedEntries.get(identifier);
+        if (resolution == null) {
+            resolution = probationEntries.remove(identifier);
+            if (resolution != null) {
+                promote(identifier, resolution);
+            }
+        }
+        return resolution;
+    }
+
+    private synchronized void put(ObjectIdentifier identifier, Resolution<?> resolution) {
+        if (protectedEntries.containsKey(identifier) || probationEntries.containsKey(identifier)) {
+            return;
+        }
+        probationEntries.put(identifier, resolution);
+        if (size() > maximumSize) {
+            // The protected segment is always smaller than the maximum size, so the probation segment has
+            // entries other than the new one
+            removeEldest(probationEntries);
+            evictionCount.increment();
+        }
+    }
+
+    private void promote(ObjectIdentifier identifier, Resolution<?> resolution) {
+        protectedEntries.put(identifier, resolution);
+        if (protectedEntries.size() > maximumProtectedSize) {
+            // Demote the least recently used protected entry, giving it another chance in the probation segment
+            Map.Entry<ObjectIdentifier, Resolution<?>> demoted = removeEldest(protectedEntries);
+            probationEntries.put(demoted.getKey(), demoted.getValue());
+        }
+    }
+
+    private static Map.Entry<ObjectIdentifier, Resolution<?>> removeEldest(
+                                                       LinkedHashMap<ObjectIdentifier, Resolution<?>> entries) {
+        Iterator<Map.Entry<ObjectIdentifier, Resolution<?>>> iterator = entries.entrySet().iterator();
+        Map.Entry<ObjectIdentifier, Resolution<?>> eldest = iterator.next();
+        iterator.remove();
+        return eldest;
+    }
+
+    /**
+     * Statistics of a {@link ResolutionCache}.
+     */
+    public static final class Stats {
+
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final int size;
+
+        Stats(long hitCount, long missCount, long evictionCount, int size) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.size = size;
+        }
+
+        /**
+         * @return number of times a resolution was found in the cache
+         */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * @return number of times no resolution was found in the cache
+         */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * @return number of resolutions which were removed to respect the maximum size
+         */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * @return number of cached resolutions
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return ratio of hits to all requests, 1.0 if there were no requests
+         */
+        public double getHitRate() {
+            long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+        }
+
+        @Override
+        public String toString() {
+            return "ResolutionCache.Stats[hits=" + hitCount + ", misses=" + missCount
+                + ", evictions=" + evictionCount + ", size=" + size + "]";
+        }
+    }
+}
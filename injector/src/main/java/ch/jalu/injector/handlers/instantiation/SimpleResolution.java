@@ -11,9 +11,22 @@ import java.util.List;
 public class SimpleResolution<T> implements Resolution<T> {
 
     private final T object;
+    private final boolean boundToInjector;
 
     public SimpleResolution(T object) {
+        this(object, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param object the object to resolve to
+     * @param boundToInjector whether the object is bound to the injector of the context, see
+     *                        {@link Resolution#isBoundToInjector()}
+     */
+    public SimpleResolution(T object, boolean boundToInjector) {
         this.object = object;
+        this.boundToInjector = boundToInjector;
     }
 
     @Override
@@ -25,4 +38,9 @@ public class SimpleResolution<T> implements Resolution<T> {
     public T instantiateWith(Object... values) {
         return object;
     }
+
+    @Override
+    public boolean isBoundToInjector() {
+        return boundToInjector;
+    }
 }
@@ -2,7 +2,6 @@ package ch.jalu.injector.handlers.instantiation;
 
 import ch.jalu.injector.context.ObjectIdentifier;
 import ch.jalu.injector.utils.InjectorUtils;
-import ch.jalu.injector.utils.ReflectionUtils;
 
 import java.lang.annotation.Annotation;
 import java.lang.ref.SoftReference;
@@ -10,7 +9,6 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,6 +23,9 @@ public class StandardInjection<T> implements Resolution<T> {
 
     private final Constructor<T> constructor;
     private final List<Field> fields;
+    private final Instantiator<T> instantiator;
+    /** Number of values expected by {@link #instantiateWith}: constructor parameters and fields. */
+    private final int valueCount;
     private SoftReference<List<ObjectIdentifier>> dependencies;
 
     /**
@@ -34,8 +35,22 @@ public class StandardInjection<T> implements Resolution<T> {
      * @param fields the fields to inject after instantiation
      */
     public StandardInjection(Constructor<T> constructor, List<Field> fields) {
+        this(constructor, fields, StandardInstantiationStrategy.REFLECTION);
+    }
+
+    /**
+     * Constructs a standard injection object which creates objects with the given strategy.
+     *
+     * @param constructor the constructor to create objects with
+     * @param fields the fields to inject after instantiation
+     * @param instantiationStrategy the strategy to create the instantiator with
+     */
+    public StandardInjection(Constructor<T> constructor, List<Field> fields,
+                             InstantiationStrategy instantiationStrategy) {
         this.constructor = constructor;
         this.fields = fields;
+        this.instantiator = instantiationStrategy.createInstantiator(constructor, fields);
+        this.valueCount = constructor.getParameterCount() + fields.size();
     }
 
     @Override
@@ -55,20 +70,9 @@ public class StandardInjection<T> implements Resolution<T> {
 
     @Override
     public T instantiateWith(Object... values) {
-        // Check no null values & correct size
-        InjectorUtils.checkArgument(values.length == constructor.getParameterTypes().length + fields.size(),
+        InjectorUtils.checkArgument(values.length == valueCount,
             "Number of values does not correspond to the expected number");
-
-        // Constructor injection
-        final int constructorParams = constructor.getParameterTypes().length;
-        final List<Object> constructorValues = Arrays.asList(values).subList(0, constructorParams);
-        T instance = ReflectionUtils.newInstance(constructor, constructorValues.toArray());
-
-        // Field injection
-        for (int i = 0; i < fields.size(); ++i) {
-            ReflectionUtils.setField(fields.get(i), instance, values[i + constructorParams]);
-        }
-        return instance;
+        return instantiator.instantiate(values);
     }
 
     @Override
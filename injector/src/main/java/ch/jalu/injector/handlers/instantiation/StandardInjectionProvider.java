@@ -1,7 +1,7 @@
 package ch.jalu.injector.handlers.instantiation;
 
 import ch.jalu.injector.exceptions.InjectorException;
-import ch.jalu.injector.utils.ReflectionUtils;
+import ch.jalu.injector.utils.InjectionMetadata;
 
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -9,7 +9,6 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -29,11 +28,43 @@ import java.util.List;
  * any of its parents, an exception is thrown.
  * <p>
  * {@link ch.jalu.injector.annotations.NoMethodScan} and {@link ch.jalu.injector.annotations.NoFieldScan} are respected.
+ * <p>
+ * If the instantiation strategy {@link InstantiationStrategy#usesInjectionDescriptors() uses injection descriptors}
+ * (e.g. {@link StandardInstantiationStrategy#GENERATED}), classes with an {@link InjectionDescriptor} generated at
+ * compile time are instantiated with it, without any reflection. The descriptor generator only accepts classes that
+ * conform to the rules above. Note that such classes bypass {@link #getInjectionConstructor},
+ * {@link #getFieldsToInject} and {@link #validateInjection}: override {@link #findInjectionDescriptor} to return
+ * {@code null} for classes that should be processed by these methods.
  */
 public class StandardInjectionProvider extends DirectInstantiationProvider {
 
+    private final InstantiationStrategy instantiationStrategy;
+
+    /**
+     * Constructor. Objects are instantiated with {@link StandardInstantiationStrategy#REFLECTION}.
+     */
+    public StandardInjectionProvider() {
+        this(StandardInstantiationStrategy.REFLECTION);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param instantiationStrategy the strategy with which objects should be instantiated
+     */
+    public StandardInjectionProvider(InstantiationStrategy instantiationStrategy) {
+        this.instantiationStrategy = instantiationStrategy;
+    }
+
     @Override
     public <T> Resolution<T> safeGet(Class<T> clazz) {
+        if (instantiationStrategy.usesInjectionDescriptors()) {
+            InjectionDescriptor<T> descriptor = findInjectionDescriptor(clazz);
+            if (descriptor != null) {
+                return new GeneratedInjection<>(clazz, descriptor);
+            }
+        }
+
         Constructor<T> constructor = getInjectionConstructor(clazz);
         if (constructor == null) {
             return null;
@@ -41,7 +72,20 @@ public class StandardInjectionProvider extends DirectInstantiationProvider {
 
         List<Field> fields = getFieldsToInject(clazz);
         validateInjection(clazz, constructor, fields);
-        return new StandardInjection<>(constructor, fields);
+        return new StandardInjection<>(constructor, fields, instantiationStrategy);
+    }
+
+    /**
+     * Returns the generated injection descriptor of the given class, if available. Only called if the
+     * instantiation strategy uses injection descriptors.
+     *
+     * @param clazz the class to process
+     * @param <T> the class' type
+     * @return the descriptor, or {@code null} if the class should be processed with reflection
+     */
+    @Nullable
+    protected <T> InjectionDescriptor<T> findInjectionDescriptor(Class<T> clazz) {
+        return InjectionDescriptors.find(clazz);
     }
 
     // -------------
@@ -58,9 +102,9 @@ public class StandardInjectionProvider extends DirectInstantiationProvider {
      */
     @Nullable
     protected <T> Constructor<T> getInjectionConstructor(Class<T> clazz) {
-        Constructor<?>[] constructors = clazz.getDeclaredConstructors();
-        if (constructors.length == 1 && isSuitableNoArgsConstructor(constructors[0])) {
-            return (Constructor<T>) constructors[0];
+        List<Constructor<?>> constructors = InjectionMetadata.of(clazz).getDeclaredConstructors();
+        if (constructors.size() == 1 && isSuitableNoArgsConstructor(constructors.get(0))) {
+            return (Constructor<T>) constructors.get(0);
         }
 
         Constructor<?> matchingConstructor = null;
@@ -75,7 +119,7 @@ public class StandardInjectionProvider extends DirectInstantiationProvider {
 
         if (matchingConstructor == null) {
             // Compatibility: If a class has at least one field with @Inject, take a non-public no-args constructor
-            return getNoArgsConstructorIfHasInjectField(clazz);
+            return getNoArgsConstructorIfHasInjectField(clazz, constructors);
         }
         return (Constructor<T>) matchingConstructor;
     }
@@ -88,16 +132,16 @@ public class StandardInjectionProvider extends DirectInstantiationProvider {
     }
 
     @Nullable
-    private static <T> Constructor<T> getNoArgsConstructorIfHasInjectField(Class<T> clazz) {
-        try {
-            Constructor<?> constructor = clazz.getDeclaredConstructor();
-            for (Field field : ReflectionUtils.safeGetDeclaredFields(clazz)) {
-                if (field.isAnnotationPresent(Inject.class)) {
+    private static <T> Constructor<T> getNoArgsConstructorIfHasInjectField(Class<T> clazz,
+                                                                           List<Constructor<?>> constructors) {
+        boolean hasInjectField = InjectionMetadata.of(clazz).getFieldsToInject().stream()
+            .anyMatch(field -> field.getDeclaringClass() == clazz);
+        if (hasInjectField) {
+            for (Constructor<?> constructor : constructors) {
+                if (constructor.getParameterCount() == 0) {
                     return (Constructor<T>) constructor;
                 }
             }
-        } catch (NoSuchMethodException e) {
-            // noop
         }
         return null;
     }
@@ -110,20 +154,10 @@ public class StandardInjectionProvider extends DirectInstantiationProvider {
      * Returns the fields in the class and its parents that should be injected.
      *
      * @param clazz the class to process
-     * @return the fields to inject
+     * @return the fields to inject (unmodifiable)
      */
     protected List<Field> getFieldsToInject(Class<?> clazz) {
-        List<Field> fields = new LinkedList<>();
-        Class<?> currentClass = clazz;
-        while (currentClass != null) {
-            for (Field f : ReflectionUtils.safeGetDeclaredFields(currentClass)) {
-                if (f.isAnnotationPresent(Inject.class)) {
-                    fields.add(f);
-                }
-            }
-            currentClass = currentClass.getSuperclass();
-        }
-        return fields;
+        return InjectionMetadata.of(clazz).getFieldsToInject();
     }
 
     // ------------
@@ -151,15 +185,10 @@ public class StandardInjectionProvider extends DirectInstantiationProvider {
     }
 
     private void validateHasNoInjectMethods(Class<?> clazz) {
-        Class<?> currentClass = clazz;
-        while (currentClass != null) {
-            for (Method m : ReflectionUtils.safeGetDeclaredMethods(currentClass)) {
-                if (m.isAnnotationPresent(Inject.class)) {
-                    throw new InjectorException("@Inject on methods is not supported, but found it on '" + m
-                        + "' while trying to instantiate '" + currentClass + "'");
-                }
-            }
-            currentClass = currentClass.getSuperclass();
+        Method injectMethod = InjectionMetadata.of(clazz).getInjectMethod();
+        if (injectMethod != null) {
+            throw new InjectorException("@Inject on methods is not supported, but found it on '" + injectMethod
+                + "' while trying to instantiate '" + injectMethod.getDeclaringClass() + "'");
         }
     }
 }
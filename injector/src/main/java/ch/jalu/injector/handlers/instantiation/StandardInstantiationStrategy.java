@@ -0,0 +1,48 @@
+package ch.jalu.injector.handlers.instantiation;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * The instantiation strategies provided by the injector.
+ */
+public enum StandardInstantiationStrategy implements InstantiationStrategy {
+
+    /** Invokes constructors and sets fields with core reflection. Default strategy. */
+    REFLECTION {
+        @Override
+        public <T> Instantiator<T> createInstantiator(Constructor<T> constructor, List<Field> fields) {
+            return new ReflectionInstantiator<>(constructor, fields);
+        }
+    },
+
+    /**
+     * Creates objects with a method handle per resolution that invokes the constructor and sets all fields
+     * in one call. Slower to set up than {@link #REFLECTION}, but faster if the same class is instantiated
+     * repeatedly (e.g. request-scoped objects).
+     */
+    METHOD_HANDLES {
+        @Override
+        public <T> Instantiator<T> createInstantiator(Constructor<T> constructor, List<Field> fields) {
+            return new MethodHandleInstantiator<>(constructor, fields);
+        }
+    },
+
+    /**
+     * Creates objects with the {@link InjectionDescriptor} generated at compile time by the injector's annotation
+     * processor, without any reflection. Classes without a descriptor are instantiated as with {@link #REFLECTION}.
+     */
+    GENERATED {
+        @Override
+        public <T> Instantiator<T> createInstantiator(Constructor<T> constructor, List<Field> fields) {
+            return new ReflectionInstantiator<>(constructor, fields);
+        }
+
+        @Override
+        public boolean usesInjectionDescriptors() {
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+package ch.jalu.injector.handlers.postconstruct;
+
+import ch.jalu.injector.exceptions.InjectorReflectionException;
+import ch.jalu.injector.utils.InjectionMetadata;
+
+import javax.annotation.PostConstruct;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * The validated {@link PostConstruct} methods of a class as method handles, in the order they need to be run.
+ * Chains are cached per class; classes without any {@code @PostConstruct} methods share an empty chain.
+ * <p>
+ * Invalid {@code @PostConstruct} methods are not cached as a chain: requesting the chain of such a class
+ * throws the validation exception again.
+ */
+final class PostConstructChain {
+
+    private static final MethodType OBJECT_TO_VOID = MethodType.methodType(void.class, Object.class);
+
+    private static final PostConstructChain EMPTY = new PostConstructChain(new String[0], new MethodHandle[0]);
+
+    private static final ClassValue<PostConstructChain> CHAINS = new ClassValue<PostConstructChain>() {
+        @Override
+        protected PostConstructChain computeValue(Class<?> type) {
+            return create(InjectionMetadata.of(type).getPostConstructMethods());
+        }
+    };
+
+    private final String[] methodNames;
+    private final MethodHandle[] handles;
+
+    private PostConstructChain(String[] methodNames, MethodHandle[] handles) {
+        this.methodNames = methodNames;
+        this.handles = handles;
+    }
+
+    /**
+     * Returns the chain of the given class.
+     *
+     * @param clazz the class to get the chain for
+     * @return the class' post construct chain
+     */
+    static PostConstructChain of(Class<?> clazz) {
+        return CHAINS.get(clazz);
+    }
+
+    /**
+     * @return true if the chain has no methods to run, false otherwise
+     */
+    boolean isEmpty() {
+        return handles.length == 0;
+    }
+
+    /**
+     * Runs all methods of the chain on the given object.
+     *
+     * @param object the object to run the methods on
+     */
+    void invoke(Object object) {
+        for (int i = 0; i < handles.length; ++i) {
+            try {
+                handles[i].invokeExact(object);
+            } catch (VirtualMachineError e) {
+                throw e;
+            } catch (Throwable t) {
+                // Same message and cause hierarchy as ReflectionUtils#invokeMethod, also for errors
+                throw new InjectorReflectionException("Could not invoke method '" + methodNames[i] + "' for "
+                    + object, new InvocationTargetException(t));
+            }
+        }
+    }
+
+    private static PostConstructChain create(List<Method> methods) {
+        if (methods.isEmpty()) {
+            return EMPTY;
+        }
+        String[] methodNames = new String[methods.size()];
+        MethodHandle[] handles = new MethodHandle[methods.size()];
+        for (int i = 0; i < methods.size(); ++i) {
+            Method method = methods.get(i);
+            methodNames[i] = method.getName();
+            handles[i] = createHandle(method);
+        }
+        return new PostConstructChain(methodNames, handles);
+    }
+
+    /**
+     * Creates a method handle of type {@code (Object)void} invoking the given method on its argument.
+     *
+     * @param method the method to create a handle for
+     * @return the method handle
+     */
+    private static MethodHandle createHandle(Method method) {
+        try {
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method).asType(OBJECT_TO_VOID);
+        } catch (IllegalAccessException e) {
+            throw new InjectorReflectionException("Could not create method handle for method '"
+                + method.getName() + "' of " + method.getDeclaringClass(), e);
+        }
+    }
+}
@@ -1,66 +1,87 @@
 package ch.jalu.injector.handlers.postconstruct;
 
 import ch.jalu.injector.context.ResolutionContext;
-import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.exceptions.InjectorReflectionException;
 import ch.jalu.injector.handlers.Handler;
+import ch.jalu.injector.handlers.instantiation.InjectionDescriptor;
+import ch.jalu.injector.handlers.instantiation.InjectionDescriptors;
 import ch.jalu.injector.handlers.instantiation.Resolution;
-import ch.jalu.injector.utils.ReflectionUtils;
 
 import javax.annotation.Nullable;
 import javax.annotation.PostConstruct;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.List;
+import java.lang.reflect.InvocationTargetException;
 
 /**
  * Searches newly instantiated classes for {@link PostConstruct} method
- * and validates their usage before executing it.
+ * and validates their usage before executing it. The validated methods are cached
+ * per class as method handles.
+ * <p>
+ * If enabled, classes with a generated {@link InjectionDescriptor} have their methods run by the descriptor
+ * instead, which skips the validation. This should be enabled together with an instantiation strategy which
+ * {@link ch.jalu.injector.handlers.instantiation.InstantiationStrategy#usesInjectionDescriptors() uses injection
+ * descriptors}, as done by {@link ch.jalu.injector.InjectorBuilder#createDefaultHandlers(String,
+ * ch.jalu.injector.handlers.instantiation.InstantiationStrategy) InjectorBuilder}.
  */
 public class PostConstructMethodInvoker implements Handler {
 
+    private final boolean useInjectionDescriptors;
+
+    /**
+     * Constructor. Methods are always run with reflection.
+     */
+    public PostConstructMethodInvoker() {
+        this(false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param useInjectionDescriptors whether methods of classes with a generated descriptor should be run by it
+     */
+    public PostConstructMethodInvoker(boolean useInjectionDescriptors) {
+        this.useInjectionDescriptors = useInjectionDescriptors;
+    }
+
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T postProcess(T object, ResolutionContext context, Resolution<?> resolution) {
-        Class<?> clazz = object.getClass();
-        List<Method> postConstructMethods = getPostConstructMethods(clazz);
-        for (int i = postConstructMethods.size() - 1; i >= 0; --i) {
-            ReflectionUtils.invokeMethod(postConstructMethods.get(i), object);
+        Class<T> clazz = (Class<T>) object.getClass();
+        if (useInjectionDescriptors) {
+            InjectionDescriptor<T> descriptor = findInjectionDescriptor(clazz);
+            if (descriptor != null) {
+                invokeWithDescriptor(descriptor, object);
+                return null;
+            }
         }
-        return null;
-    }
 
-    private static List<Method> getPostConstructMethods(Class<?> clazz) {
-        List<Method> postConstructMethods = new ArrayList<>();
-        Class<?> currentClass = clazz;
-        while (currentClass != null) {
-            Method postConstruct = getAndValidatePostConstructMethod(currentClass);
-            if (postConstruct != null) {
-                postConstructMethods.add(postConstruct);
-            }
-            currentClass = currentClass.getSuperclass();
+        PostConstructChain chain = PostConstructChain.of(clazz);
+        if (!chain.isEmpty()) {
+            chain.invoke(object);
         }
-        return postConstructMethods;
+        return null;
     }
 
+    /**
+     * Returns the generated injection descriptor of the given class, if available. Only called if
+     * injection descriptors are used.
+     *
+     * @param clazz the class to process
+     * @param <T> the class' type
+     * @return the descriptor, or {@code null} if the methods should be run with reflection
+     */
     @Nullable
-    private static Method getAndValidatePostConstructMethod(Class<?> clazz) {
-        Method postConstructMethod = null;
-        for (Method method : ReflectionUtils.safeGetDeclaredMethods(clazz)) {
-            if (method.isAnnotationPresent(PostConstruct.class)) {
-                if (postConstructMethod != null) {
-                    throw new InjectorException("Multiple methods with @PostConstruct in " + clazz);
-                } else if (method.getParameterTypes().length > 0 || Modifier.isStatic(method.getModifiers())) {
-                    throw new InjectorException("@PostConstruct method may not be static or have any parameters. "
-                        + "Invalid method in " + clazz);
-                } else if (method.getReturnType() != void.class) {
-                    throw new InjectorException("@PostConstruct method must have return type void. "
-                        + "Offending class: " + clazz);
-                } else {
-                    postConstructMethod = method;
-                }
-            }
-        }
-        return postConstructMethod;
+    protected <T> InjectionDescriptor<T> findInjectionDescriptor(Class<T> clazz) {
+        return InjectionDescriptors.find(clazz);
     }
 
+    private static <T> void invokeWithDescriptor(InjectionDescriptor<T> descriptor, T object) {
+        try {
+            descriptor.invokePostConstruct(object);
+        } catch (VirtualMachineError e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new InjectorReflectionException("Could not invoke @PostConstruct methods for " + object,
+                new InvocationTargetException(t));
+        }
+    }
 }
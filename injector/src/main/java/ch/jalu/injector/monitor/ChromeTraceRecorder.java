@@ -0,0 +1,263 @@
+package ch.jalu.injector.monitor;
+
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.utils.InjectorUtils;
+
+import javax.annotation.Nullable;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monitor which records every resolution and its phases as a span with its start, duration and thread, and
+ * writes them in the Chrome trace event format. The file can be opened with Perfetto or {@code chrome://tracing}
+ * to see which chains of objects take the longest to create and how the work is distributed over threads.
+ * <p>
+ * Spans are kept in memory until the recorder is {@link #clear() cleared}; spans beyond the maximum number
+ * of spans are dropped. This class is thread-safe.
+ */
+public class ChromeTraceRecorder implements ResolutionMonitor {
+
+    /** Default maximum number of spans to keep. */
+    public static final int DEFAULT_MAXIMUM_SPANS = 1_000_000;
+
+    private static final String RESOLUTION_CATEGORY = "resolution";
+    private static final String PHASE_CATEGORY = "phase";
+
+    private final int maximumSpans;
+    private final long originNanos = System.nanoTime();
+    private final Queue<Span> spans = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger spanCount = new AtomicInteger();
+    private final AtomicLong droppedSpanCount = new AtomicLong();
+    private final Map<Long, String> threadNames = new ConcurrentHashMap<>();
+    private final ThreadLocal<Deque<OpenSpan>> openSpans = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Constructor. Keeps up to {@link #DEFAULT_MAXIMUM_SPANS} spans.
+     */
+    public ChromeTraceRecorder() {
+        this(DEFAULT_MAXIMUM_SPANS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSpans the maximum number of spans to keep (positive)
+     */
+    public ChromeTraceRecorder(int maximumSpans) {
+        InjectorUtils.checkArgument(maximumSpans > 0, "Maximum number of spans must be positive");
+        this.maximumSpans = maximumSpans;
+    }
+
+    @Override
+    public void resolutionStarted(ResolutionContext context) {
+        openSpans.get().push(new OpenSpan(context, null, System.nanoTime()));
+    }
+
+    @Override
+    public void phaseStarted(ResolutionContext context, ResolutionPhase phase) {
+        openSpans.get().push(new OpenSpan(context, phase, System.nanoTime()));
+    }
+
+    @Override
+    public void phaseFinished(ResolutionContext context, ResolutionPhase phase) {
+        finishSpan(context, phase);
+    }
+
+    @Override
+    public void resolutionFinished(ResolutionContext context) {
+        finishSpan(context, null);
+    }
+
+    /**
+     * Writes all recorded spans to the given file in the Chrome trace event format (JSON).
+     * Existing files are overwritten.
+     *
+     * @param file the file to write to
+     * @throws IOException if the file could not be written
+     */
+    public void writeTo(Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeTo(writer);
+        }
+    }
+
+    /**
+     * Writes all recorded spans to the given writer in the Chrome trace event format (JSON).
+     *
+     * @param writer the writer to write to (not closed by this method)
+     * @throws IOException if the writer throws an exception
+     */
+    public void writeTo(Writer writer) throws IOException {
+        Writer out = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+        out.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+        boolean isFirst = true;
+        for (Map.Entry<Long, String> thread : threadNames.entrySet()) {
+            out.write(isFirst ? "\n" : ",\n");
+            isFirst = false;
+            out.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":" + thread.getKey()
+                + ",\"args\":{\"name\":" + toJsonString(thread.getValue()) + "}}");
+        }
+        for (Span span : spans) {
+            out.write(isFirst ? "\n" : ",\n");
+            isFirst = false;
+            out.write("{\"name\":" + toJsonString(span.name)
+                + ",\"cat\":\"" + span.category + "\",\"ph\":\"X\",\"pid\":1,\"tid\":" + span.threadId
+                + ",\"ts\":" + toMicros(span.startNanos) + ",\"dur\":" + toMicros(span.durationNanos)
+                + ",\"args\":{\"type\":" + toJsonString(span.typeName)
+                + ",\"resolutionType\":" + toJsonString(span.resolutionType)
+                + ",\"depth\":" + span.depth + "}}");
+        }
+        out.write("\n]}\n");
+        out.flush();
+    }
+
+    /**
+     * @return the number of recorded spans
+     */
+    public int getSpanCount() {
+        return spanCount.get();
+    }
+
+    /**
+     * @return the number of spans which were dropped because the maximum number of spans was reached
+     */
+    public long getDroppedSpanCount() {
+        return droppedSpanCount.get();
+    }
+
+    /**
+     * Removes all recorded spans. Spans which are open are recorded when they finish.
+     */
+    public void clear() {
+        spans.clear();
+        spanCount.set(0);
+        droppedSpanCount.set(0);
+    }
+
+    /**
+     * @return the recorded spans, in the order they finished
+     */
+    List<Span> getSpans() {
+        return new ArrayList<>(spans);
+    }
+
+    private void finishSpan(ResolutionContext context, @Nullable ResolutionPhase phase) {
+        final long end = System.nanoTime();
+        final Deque<OpenSpan> stack = openSpans.get();
+        OpenSpan openSpan = stack.poll();
+        // Spans of phases which failed are not finished: they are discarded with their resolution's span
+        while (openSpan != null && (openSpan.context != context || openSpan.phase != phase)) {
+            openSpan = stack.poll();
+        }
+        if (openSpan == null) {
+            return;
+        }
+        if (spanCount.incrementAndGet() > maximumSpans) {
+            spanCount.decrementAndGet();
+            droppedSpanCount.incrementAndGet();
+            return;
+        }
+
+        Thread thread = Thread.currentThread();
+        threadNames.putIfAbsent(thread.getId(), thread.getName());
+        spans.add(new Span(openSpan, openSpan.startNanos - originNanos, end - openSpan.startNanos, thread.getId()));
+    }
+
+    private static String toMicros(long nanos) {
+        return nanos / 1000 + "." + String.format(Locale.ROOT, "%03d", nanos % 1000);
+    }
+
+    /**
+     * Returns the given text as JSON string literal.
+     *
+     * @param text the text to convert
+     * @return JSON string literal
+     */
+    static String toJsonString(String text) {
+        StringBuilder sb = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); ++i) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * Resolution or phase which has started on a thread.
+     */
+    private static final class OpenSpan {
+
+        private final ResolutionContext context;
+        /** The phase of the span, null if the span is the resolution itself. */
+        @Nullable
+        private final ResolutionPhase phase;
+        private final long startNanos;
+
+        OpenSpan(ResolutionContext context, @Nullable ResolutionPhase phase, long startNanos) {
+            this.context = context;
+            this.phase = phase;
+            this.startNanos = startNanos;
+        }
+    }
+
+    /**
+     * Recorded span.
+     */
+    static final class Span {
+
+        private final String name;
+        private final String category;
+        private final String typeName;
+        private final String resolutionType;
+        private final int depth;
+        private final long startNanos;
+        private final long durationNanos;
+        private final long threadId;
+
+        Span(OpenSpan openSpan, long startNanos, long durationNanos, long threadId) {
+            ObjectIdentifier identifier = openSpan.context.getOriginalIdentifier();
+            this.typeName = identifier.getType().getTypeName();
+            this.name = openSpan.phase == null ? typeName : openSpan.phase.toString();
+            this.category = openSpan.phase == null ? RESOLUTION_CATEGORY : PHASE_CATEGORY;
+            this.resolutionType = identifier.getResolutionType().toString();
+            this.depth = openSpan.context.getDepth();
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+            this.threadId = threadId;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        long getStartNanos() {
+            return startNanos;
+        }
+
+        long getDurationNanos() {
+            return durationNanos;
+        }
+    }
+}
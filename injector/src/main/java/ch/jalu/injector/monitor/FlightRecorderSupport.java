@@ -0,0 +1,154 @@
+package ch.jalu.injector.monitor;
+
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.handlers.Handler;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+import javax.annotation.Nullable;
+
+/**
+ * Integration with JDK Flight Recorder: while a recording is running, injectors emit events for the
+ * resolution of objects and its phases, which can be analyzed e.g. with JDK Mission Control. The events are
+ * in the "Injector" category and can be enabled or disabled per recording like any other JFR event.
+ * <p>
+ * No events are emitted and no additional work is done while no recording is running, or if JFR is not
+ * available in the JVM. The integration can be turned off entirely with {@link #setEnabled} or by setting the
+ * system property {@value #ENABLED_PROPERTY} to false.
+ */
+public final class FlightRecorderSupport {
+
+    /** System property with which the integration can be turned off. */
+    public static final String ENABLED_PROPERTY = "ch.jalu.injector.jfr";
+
+    private static final boolean IS_AVAILABLE = isFlightRecorderAvailable();
+
+    private static volatile boolean enabled = !"false".equalsIgnoreCase(System.getProperty(ENABLED_PROPERTY));
+
+    private FlightRecorderSupport() {
+    }
+
+    /**
+     * @return true if events should currently be emitted, i.e. if a recording is running and the integration
+     *         is enabled; false otherwise
+     */
+    public static boolean isRecording() {
+        return enabled && IS_AVAILABLE && RecordingTracker.isRecording();
+    }
+
+    /**
+     * Enables or disables the integration at runtime. Enabled by default, unless the system property
+     * {@value #ENABLED_PROPERTY} is false.
+     *
+     * @param enabled true to emit events while a recording is running, false to never emit any events
+     */
+    public static void setEnabled(boolean enabled) {
+        FlightRecorderSupport.enabled = enabled;
+    }
+
+    /**
+     * Returns a monitor which emits the JFR events and notifies the given monitor. Only use the returned
+     * monitor if {@link #isRecording()} is true.
+     *
+     * @param monitor the monitor to notify in addition, null for none
+     * @return monitor emitting the JFR events
+     */
+    public static ResolutionMonitor withEventMonitor(@Nullable ResolutionMonitor monitor) {
+        ResolutionMonitor eventMonitor = EventMonitorHolder.EVENT_MONITOR;
+        return monitor == null ? eventMonitor : new CompositeMonitor(monitor, eventMonitor);
+    }
+
+    private static boolean isFlightRecorderAvailable() {
+        try {
+            Class.forName("jdk.jfr.FlightRecorder", false, FlightRecorderSupport.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Keeps track of whether a recording is running. Only loaded if JFR is available.
+     */
+    private static final class RecordingTracker implements FlightRecorderListener {
+
+        private static volatile boolean isRecording;
+
+        static {
+            FlightRecorder.addListener(new RecordingTracker());
+        }
+
+        static boolean isRecording() {
+            return isRecording;
+        }
+
+        @Override
+        public void recorderInitialized(FlightRecorder recorder) {
+            updateState(recorder);
+        }
+
+        @Override
+        public void recordingStateChanged(Recording recording) {
+            updateState(FlightRecorder.getFlightRecorder());
+        }
+
+        private static void updateState(FlightRecorder recorder) {
+            isRecording = recorder.getRecordings().stream()
+                .anyMatch(recording -> recording.getState() == RecordingState.RUNNING);
+        }
+    }
+
+    /**
+     * Holds the monitor emitting the events, so that the event classes are only loaded once a recording runs.
+     */
+    private static final class EventMonitorHolder {
+
+        private static final ResolutionMonitor EVENT_MONITOR = new JfrEventMonitor();
+    }
+
+    /**
+     * Notifies two monitors.
+     */
+    private static final class CompositeMonitor implements ResolutionMonitor {
+
+        private final ResolutionMonitor first;
+        private final ResolutionMonitor second;
+
+        CompositeMonitor(ResolutionMonitor first, ResolutionMonitor second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void resolutionStarted(ResolutionContext context) {
+            first.resolutionStarted(context);
+            second.resolutionStarted(context);
+        }
+
+        @Override
+        public void phaseStarted(ResolutionContext context, ResolutionPhase phase) {
+            first.phaseStarted(context, phase);
+            second.phaseStarted(context, phase);
+        }
+
+        @Override
+        public void handlerSelected(ResolutionContext context, Handler handler) {
+            first.handlerSelected(context, handler);
+            second.handlerSelected(context, handler);
+        }
+
+        @Override
+        public void phaseFinished(ResolutionContext context, ResolutionPhase phase) {
+            second.phaseFinished(context, phase);
+            first.phaseFinished(context, phase);
+        }
+
+        @Override
+        public void resolutionFinished(ResolutionContext context) {
+            second.resolutionFinished(context);
+            first.resolutionFinished(context);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package ch.jalu.injector.monitor;
+
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.handlers.Handler;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Monitor emitting JDK Flight Recorder events. Used by {@link FlightRecorderSupport}.
+ */
+final class JfrEventMonitor implements ResolutionMonitor {
+
+    private final ThreadLocal<Deque<Frame>> frames = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void resolutionStarted(ResolutionContext context) {
+        ResolutionEvent event = new ResolutionEvent();
+        event.begin();
+        frames.get().push(new Frame(context, event));
+    }
+
+    @Override
+    public void phaseStarted(ResolutionContext context, ResolutionPhase phase) {
+        Frame frame = getFrame(context);
+        if (frame != null) {
+            InjectorEvent event = createPhaseEvent(phase);
+            event.begin();
+            frame.phaseEvent = event;
+        }
+    }
+
+    @Override
+    public void handlerSelected(ResolutionContext context, Handler handler) {
+        Frame frame = getFrame(context);
+        if (frame != null) {
+            frame.handler = handler.getClass();
+        }
+    }
+
+    @Override
+    public void phaseFinished(ResolutionContext context, ResolutionPhase phase) {
+        Frame frame = getFrame(context);
+        if (frame != null && frame.phaseEvent != null) {
+            commit(frame.phaseEvent, frame);
+            frame.phaseEvent = null;
+        }
+    }
+
+    @Override
+    public void resolutionFinished(ResolutionContext context) {
+        final Deque<Frame> stack = frames.get();
+        Frame frame = stack.poll();
+        // Frames may not match if a recording started in the middle of a resolution
+        while (frame != null && frame.context != context) {
+            frame = stack.poll();
+        }
+        if (frame != null) {
+            commit(frame.event, frame);
+        }
+    }
+
+    private Frame getFrame(ResolutionContext context) {
+        Frame frame = frames.get().peek();
+        return frame != null && frame.context == context ? frame : null;
+    }
+
+    private static InjectorEvent createPhaseEvent(ResolutionPhase phase) {
+        switch (phase) {
+            case RESOLVE:
+                return new ResolveEvent();
+            case INSTANTIATION:
+                return new InstantiationEvent();
+            case POST_PROCESS:
+                return new PostProcessEvent();
+            default:
+                throw new IllegalStateException("Unknown phase: " + phase);
+        }
+    }
+
+    private static void commit(InjectorEvent event, Frame frame) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.requestedType = frame.context.getOriginalIdentifier().getTypeAsClass();
+            event.resolutionType = frame.context.getOriginalIdentifier().getResolutionType().toString();
+            event.handler = frame.handler;
+            event.depth = frame.context.getDepth();
+            event.commit();
+        }
+    }
+
+    /**
+     * Resolution in progress on a thread.
+     */
+    private static final class Frame {
+
+        private final ResolutionContext context;
+        private final ResolutionEvent event;
+        private InjectorEvent phaseEvent;
+        private Class<?> handler;
+
+        Frame(ResolutionContext context, ResolutionEvent event) {
+            this.context = context;
+            this.event = event;
+        }
+    }
+
+    /**
+     * Base class of the injector's events.
+     */
+    @Category("Injector")
+    @StackTrace(false)
+    abstract static class InjectorEvent extends Event {
+
+        @Label("Requested Type")
+        Class<?> requestedType;
+
+        @Label("Resolution Type")
+        String resolutionType;
+
+        @Label("Handler")
+        @Description("Handler which provided the resolution, if known")
+        Class<?> handler;
+
+        @Label("Depth")
+        @Description("Number of dependents between the object and the object requested from the injector")
+        int depth;
+    }
+
+    @Name("ch.jalu.injector.Resolution")
+    @Label("Resolution")
+    @Description("Creation of an object by the injector, including the objects it depends on")
+    static final class ResolutionEvent extends InjectorEvent {
+    }
+
+    @Name("ch.jalu.injector.Resolve")
+    @Label("Handler Resolve")
+    @Description("Handlers being asked for the resolution of an object")
+    static final class ResolveEvent extends InjectorEvent {
+    }
+
+    @Name("ch.jalu.injector.Instantiation")
+    @Label("Instantiation")
+    @Description("Instantiation of an object with its dependencies")
+    static final class InstantiationEvent extends InjectorEvent {
+    }
+
+    @Name("ch.jalu.injector.PostProcess")
+    @Label("Post Process")
+    @Description("Post processing of an object, e.g. calling its @PostConstruct methods")
+    static final class PostProcessEvent extends InjectorEvent {
+    }
+}
@@ -0,0 +1,299 @@
+package ch.jalu.injector.monitor;
+
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.context.ResolutionContext;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monitor which records the number of resolutions and the time spent on them, per
+ * {@link ResolutionContext#getOriginalIdentifier() requested identifier}. Use {@link #getSnapshot()} to query
+ * the metrics, e.g. to find the singletons which take the longest to create.
+ * <p>
+ * The total time of a resolution includes the resolution of its dependencies, whereas its self time does not.
+ * Phase times include the resolution of any objects created during the phase. A histogram of the total time
+ * is kept per identifier. This class is thread-safe.
+ */
+public class ResolutionMetrics implements ResolutionMonitor {
+
+    /** Number of buckets of the total time histograms. */
+    public static final int HISTOGRAM_BUCKETS = 32;
+
+    private final Map<ObjectIdentifier, Accumulator> accumulators = new ConcurrentHashMap<>();
+    private final ThreadLocal<Deque<Frame>> frames = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void resolutionStarted(ResolutionContext context) {
+        frames.get().push(new Frame(context, System.nanoTime()));
+    }
+
+    @Override
+    public void phaseStarted(ResolutionContext context, ResolutionPhase phase) {
+        Frame frame = frames.get().peek();
+        if (frame != null && frame.context == context) {
+            frame.phaseStart = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void phaseFinished(ResolutionContext context, ResolutionPhase phase) {
+        Frame frame = frames.get().peek();
+        if (frame != null && frame.context == context) {
+            frame.phaseNanos[phase.ordinal()] += System.nanoTime() - frame.phaseStart;
+        }
+    }
+
+    @Override
+    public void resolutionFinished(ResolutionContext context) {
+        final long end = System.nanoTime();
+        final Deque<Frame> stack = frames.get();
+        Frame frame = stack.poll();
+        // Skip frames which were not finished; should not happen unless notifications were lost
+        while (frame != null && frame.context != context) {
+            frame = stack.poll();
+        }
+        if (frame == null) {
+            return;
+        }
+
+        long totalNanos = end - frame.start;
+        Frame parent = stack.peek();
+        if (parent != null) {
+            parent.childNanos += totalNanos;
+        }
+        accumulators.computeIfAbsent(context.getOriginalIdentifier(), id -> new Accumulator())
+            .add(frame, totalNanos);
+    }
+
+    /**
+     * @return snapshot of the metrics recorded so far
+     */
+    public Snapshot getSnapshot() {
+        Map<ObjectIdentifier, TypeMetrics> metrics = new HashMap<>();
+        accumulators.forEach((identifier, accumulator) -> metrics.put(identifier, accumulator.toMetrics(identifier)));
+        return new Snapshot(metrics);
+    }
+
+    /**
+     * Removes all recorded metrics. Resolutions which are in progress are recorded when they finish.
+     */
+    public void reset() {
+        accumulators.clear();
+    }
+
+    /**
+     * Returns the index of the histogram bucket for the given duration: bucket 0 is for durations below one
+     * microsecond; bucket {@code i} is for durations from 2<sup>i-1</sup> up to 2<sup>i</sup> microseconds.
+     * The last bucket contains all longer durations.
+     *
+     * @param nanos the duration in nanoseconds
+     * @return the bucket index
+     */
+    static int getHistogramBucket(long nanos) {
+        int bucket = 64 - Long.numberOfLeadingZeros(nanos / 1000);
+        return Math.min(bucket, HISTOGRAM_BUCKETS - 1);
+    }
+
+    /**
+     * Resolution in progress on a thread.
+     */
+    private static final class Frame {
+
+        private final ResolutionContext context;
+        private final long start;
+        private final long[] phaseNanos = new long[ResolutionPhase.values().length];
+        private long phaseStart;
+        private long childNanos;
+
+        Frame(ResolutionContext context, long start) {
+            this.context = context;
+            this.start = start;
+        }
+    }
+
+    /**
+     * Accumulates the metrics of an identifier.
+     */
+    private static final class Accumulator {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder selfNanos = new LongAdder();
+        private final LongAdder[] phaseNanos = new LongAdder[ResolutionPhase.values().length];
+        private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+        Accumulator() {
+            for (int i = 0; i < phaseNanos.length; ++i) {
+                phaseNanos[i] = new LongAdder();
+            }
+        }
+
+        void add(Frame frame, long total) {
+            count.increment();
+            totalNanos.add(total);
+            selfNanos.add(total - frame.childNanos);
+            for (int i = 0; i < phaseNanos.length; ++i) {
+                phaseNanos[i].add(frame.phaseNanos[i]);
+            }
+            histogram.incrementAndGet(getHistogramBucket(total));
+        }
+
+        TypeMetrics toMetrics(ObjectIdentifier identifier) {
+            long[] phases = new long[phaseNanos.length];
+            for (int i = 0; i < phases.length; ++i) {
+                phases[i] = phaseNanos[i].sum();
+            }
+            long[] buckets = new long[HISTOGRAM_BUCKETS];
+            for (int i = 0; i < buckets.length; ++i) {
+                buckets[i] = histogram.get(i);
+            }
+            return new TypeMetrics(identifier, count.sum(), totalNanos.sum(), selfNanos.sum(), phases, buckets);
+        }
+    }
+
+    /**
+     * Metrics of all identifiers at the time the snapshot was taken.
+     */
+    public static final class Snapshot {
+
+        private final Map<ObjectIdentifier, TypeMetrics> metrics;
+
+        Snapshot(Map<ObjectIdentifier, TypeMetrics> metrics) {
+            this.metrics = Collections.unmodifiableMap(metrics);
+        }
+
+        /**
+         * @return metrics by identifier
+         */
+        public Map<ObjectIdentifier, TypeMetrics> getAll() {
+            return metrics;
+        }
+
+        /**
+         * Returns the metrics of the given identifier.
+         *
+         * @param identifier the identifier to get the metrics for
+         * @return the metrics, null if no resolution was recorded for the identifier
+         */
+        @Nullable
+        public TypeMetrics get(ObjectIdentifier identifier) {
+            return metrics.get(identifier);
+        }
+
+        /**
+         * Returns the metrics of all identifiers with the given type, e.g. the identifiers of a class as
+         * singleton and as request-scoped object.
+         *
+         * @param type the type to get the metrics for
+         * @return list of all metrics with the type (never null)
+         */
+        public List<TypeMetrics> getByType(Class<?> type) {
+            List<TypeMetrics> result = new ArrayList<>();
+            for (TypeMetrics typeMetrics : metrics.values()) {
+                if (typeMetrics.getIdentifier().getTypeAsClass() == type) {
+                    result.add(typeMetrics);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Returns the metrics with the longest self time, i.e. the identifiers which are the most expensive
+         * to create themselves.
+         *
+         * @param limit the maximum number of metrics to return
+         * @return the metrics with the longest self time, in descending order
+         */
+        public List<TypeMetrics> getSlowest(int limit) {
+            List<TypeMetrics> result = new ArrayList<>(metrics.values());
+            result.sort(Comparator.comparingLong(TypeMetrics::getSelfNanos).reversed());
+            return result.size() > limit ? result.subList(0, limit) : result;
+        }
+    }
+
+    /**
+     * Metrics of an identifier. All times are the sum over all resolutions, in nanoseconds.
+     */
+    public static final class TypeMetrics {
+
+        private final ObjectIdentifier identifier;
+        private final long count;
+        private final long totalNanos;
+        private final long selfNanos;
+        private final long[] phaseNanos;
+        private final long[] histogram;
+
+        TypeMetrics(ObjectIdentifier identifier, long count, long totalNanos, long selfNanos,
+                    long[] phaseNanos, long[] histogram) {
+            this.identifier = identifier;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.selfNanos = selfNanos;
+            this.phaseNanos = phaseNanos;
+            this.histogram = histogram;
+        }
+
+        public ObjectIdentifier getIdentifier() {
+            return identifier;
+        }
+
+        /**
+         * @return number of resolutions
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return time of the resolutions, including the resolution of dependencies
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * @return time of the resolutions, excluding the resolution of dependencies
+         */
+        public long getSelfNanos() {
+            return selfNanos;
+        }
+
+        /**
+         * @param phase the phase
+         * @return time spent in the given phase
+         */
+        public long getPhaseNanos(ResolutionPhase phase) {
+            return phaseNanos[phase.ordinal()];
+        }
+
+        /**
+         * Returns the number of resolutions per total time range: bucket 0 counts resolutions which took less
+         * than one microsecond; bucket {@code i} counts resolutions of 2<sup>i-1</sup> up to 2<sup>i</sup>
+         * microseconds. The last bucket also counts all longer resolutions.
+         *
+         * @return the histogram of the total time (copy)
+         */
+        public long[] getHistogram() {
+            return histogram.clone();
+        }
+
+        @Override
+        public String toString() {
+            return "TypeMetrics[" + identifier + ": count=" + count
+                + ", total=" + TimeUnit.NANOSECONDS.toMicros(totalNanos) + "us"
+                + ", self=" + TimeUnit.NANOSECONDS.toMicros(selfNanos) + "us]";
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package ch.jalu.injector.monitor;
+
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.handlers.Handler;
+
+/**
+ * Receives notifications from the injector about the objects it resolves, e.g. to measure how long the creation
+ * of singletons takes. Set a monitor with {@link InjectorBuilder#setResolutionMonitor}; the injector does not
+ * do any additional work if it has no monitor. While a flight recording is running, the injector also notifies
+ * a monitor which emits JFR events (see {@link FlightRecorderSupport}).
+ * <p>
+ * Every object the injector creates is reported as a resolution: {@link #resolutionStarted} is called before
+ * the handlers are asked for the object and {@link #resolutionFinished} is called once the object has been
+ * created or the resolution has failed. The resolutions of an object's dependencies are reported in between,
+ * so the notifications of a thread are always nested properly. Objects which can be returned without any
+ * resolution, such as singletons which have already been created, are not reported.
+ * <p>
+ * The phases of a resolution are reported within the resolution. A phase may be skipped: for instance, the
+ * handlers are not asked again for request-scoped objects whose resolution is known from previous calls, and
+ * only resolutions which instantiate objects are post processed. If an exception is thrown, the current phase is
+ * not finished, but the resolution always is. Phases may contain the resolution of other objects, e.g. if a
+ * provider creates an object with the injector when it is instantiated.
+ * <p>
+ * The notifications are made by the thread which resolves the object. Monitors of concurrent injectors must be
+ * thread-safe. Monitors should not throw any exceptions.
+ */
+public interface ResolutionMonitor {
+
+    /**
+     * Called when the injector starts the resolution of an object.
+     *
+     * @param context the context of the object
+     */
+    default void resolutionStarted(ResolutionContext context) {
+    }
+
+    /**
+     * Called when a phase of a resolution starts.
+     *
+     * @param context the context of the object
+     * @param phase the phase which starts
+     */
+    default void phaseStarted(ResolutionContext context, ResolutionPhase phase) {
+    }
+
+    /**
+     * Called when a handler has returned the resolution of an object. This also happens outside of the
+     * resolution of an object, e.g. when the injector compiles the plan to create request-scoped objects.
+     *
+     * @param context the context of the object
+     * @param handler the handler which returned the resolution
+     */
+    default void handlerSelected(ResolutionContext context, Handler handler) {
+    }
+
+    /**
+     * Called when a phase of a resolution has finished successfully.
+     *
+     * @param context the context of the object
+     * @param phase the phase which finished
+     */
+    default void phaseFinished(ResolutionContext context, ResolutionPhase phase) {
+    }
+
+    /**
+     * Called when the resolution of an object has finished, regardless of whether it was successful.
+     *
+     * @param context the context of the object
+     */
+    default void resolutionFinished(ResolutionContext context) {
+    }
+}
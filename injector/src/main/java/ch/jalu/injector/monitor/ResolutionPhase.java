@@ -0,0 +1,19 @@
+package ch.jalu.injector.monitor;
+
+import ch.jalu.injector.handlers.Handler;
+
+/**
+ * Phases of the creation of an object, as reported to a {@link ResolutionMonitor}.
+ */
+public enum ResolutionPhase {
+
+    /** The handlers are asked for the resolution of the object ({@link Handler#resolve}). */
+    RESOLVE,
+
+    /** The object is instantiated with its resolved dependencies (e.g. its constructor is called). */
+    INSTANTIATION,
+
+    /** The post process handlers run on the instantiated object, e.g. to call {@code @PostConstruct} methods. */
+    POST_PROCESS
+
+}
@@ -42,7 +42,7 @@ public class MockDependencyHandler implements Handler {
         Class<?> type = context.getIdentifier().getTypeAsClass();
         Object object = injector.getIfAvailable(type);
         if (object != null) {
-            return new SimpleResolution<>(object);
+            return new SimpleResolution<>(object, true);
         }
         if (fieldsToInject.contains(type)) {
             // The required type is present as @InjectDelayed. Return null to make the injector instantiate the type
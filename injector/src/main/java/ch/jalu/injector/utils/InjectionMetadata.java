@@ -0,0 +1,181 @@
+package ch.jalu.injector.utils;
+
+import ch.jalu.injector.annotations.NoFieldScan;
+import ch.jalu.injector.annotations.NoMethodScan;
+import ch.jalu.injector.exceptions.InjectorException;
+
+import javax.annotation.Nullable;
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reflection metadata of a class which is relevant for injection. The metadata of a class is determined once
+ * and shared by all injectors; parents share their metadata with all of their subclasses.
+ * <p>
+ * The metadata is stored with a {@link ClassValue}, so it does not prevent classes and their class loaders
+ * from being unloaded. Each part of the metadata is only determined when it is first requested, e.g. the
+ * methods of a class are not scanned if only its fields are needed. {@link NoFieldScan} and
+ * {@link NoMethodScan} are respected.
+ */
+public final class InjectionMetadata {
+
+    private static final ClassValue<InjectionMetadata> METADATA = new ClassValue<InjectionMetadata>() {
+        @Override
+        protected InjectionMetadata computeValue(Class<?> type) {
+            return new InjectionMetadata(type);
+        }
+    };
+
+    private final Class<?> clazz;
+    private volatile List<Constructor<?>> constructors;
+    private volatile List<Field> fieldsToInject;
+    private volatile Method[] injectMethod;
+    private volatile PostConstructMethods postConstructMethods;
+
+    private InjectionMetadata(Class<?> clazz) {
+        this.clazz = clazz;
+    }
+
+    /**
+     * Returns the metadata of the given class.
+     *
+     * @param clazz the class to get the metadata for
+     * @return the class' metadata
+     */
+    public static InjectionMetadata of(Class<?> clazz) {
+        return METADATA.get(clazz);
+    }
+
+    /**
+     * @return all constructors declared by the class (unmodifiable)
+     */
+    public List<Constructor<?>> getDeclaredConstructors() {
+        List<Constructor<?>> result = constructors;
+        if (result == null) {
+            result = Collections.unmodifiableList(Arrays.asList(clazz.getDeclaredConstructors()));
+            constructors = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the fields with {@code @Inject} of the class and its parents. The fields of the class come first,
+     * followed by the fields of its parent, and so forth.
+     *
+     * @return the fields with {@code @Inject} (unmodifiable)
+     */
+    public List<Field> getFieldsToInject() {
+        List<Field> result = fieldsToInject;
+        if (result == null) {
+            List<Field> fields = new ArrayList<>();
+            for (Field field : ReflectionUtils.safeGetDeclaredFields(clazz)) {
+                if (field.isAnnotationPresent(Inject.class)) {
+                    fields.add(field);
+                }
+            }
+            if (clazz.getSuperclass() != null) {
+                fields.addAll(of(clazz.getSuperclass()).getFieldsToInject());
+            }
+            result = Collections.unmodifiableList(fields);
+            fieldsToInject = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns a method with {@code @Inject} of the class or, if there is none, of its parents.
+     *
+     * @return a method with {@code @Inject}, or null if there is none
+     */
+    @Nullable
+    public Method getInjectMethod() {
+        Method[] result = injectMethod;
+        if (result == null) {
+            Method method = null;
+            for (Method declaredMethod : ReflectionUtils.safeGetDeclaredMethods(clazz)) {
+                if (declaredMethod.isAnnotationPresent(Inject.class)) {
+                    method = declaredMethod;
+                    break;
+                }
+            }
+            if (method == null && clazz.getSuperclass() != null) {
+                method = of(clazz.getSuperclass()).getInjectMethod();
+            }
+            result = new Method[]{ method };
+            injectMethod = result;
+        }
+        return result[0];
+    }
+
+    /**
+     * Returns the {@code @PostConstruct} methods of the class and its parents, starting with the top-most parent.
+     * Throws an exception if any {@code @PostConstruct} method is invalid.
+     *
+     * @return the {@code @PostConstruct} methods to run (unmodifiable)
+     */
+    public List<Method> getPostConstructMethods() {
+        PostConstructMethods result = postConstructMethods;
+        if (result == null) {
+            result = determinePostConstructMethods();
+            postConstructMethods = result;
+        }
+        if (result.error != null) {
+            throw new InjectorException(result.error);
+        }
+        return result.methods;
+    }
+
+    private PostConstructMethods determinePostConstructMethods() {
+        Method postConstructMethod = null;
+        for (Method method : ReflectionUtils.safeGetDeclaredMethods(clazz)) {
+            if (method.isAnnotationPresent(PostConstruct.class)) {
+                if (postConstructMethod != null) {
+                    return new PostConstructMethods("Multiple methods with @PostConstruct in " + clazz);
+                } else if (method.getParameterTypes().length > 0 || Modifier.isStatic(method.getModifiers())) {
+                    return new PostConstructMethods("@PostConstruct method may not be static or have any "
+                        + "parameters. Invalid method in " + clazz);
+                } else if (method.getReturnType() != void.class) {
+                    return new PostConstructMethods("@PostConstruct method must have return type void. "
+                        + "Offending class: " + clazz);
+                } else {
+                    postConstructMethod = method;
+                }
+            }
+        }
+
+        List<Method> methods = clazz.getSuperclass() == null
+            ? new ArrayList<>()
+            : new ArrayList<>(of(clazz.getSuperclass()).getPostConstructMethods());
+        if (postConstructMethod != null) {
+            methods.add(postConstructMethod);
+        }
+        return new PostConstructMethods(Collections.unmodifiableList(methods));
+    }
+
+    /**
+     * The {@code @PostConstruct} methods of a class, or the reason why they are invalid.
+     */
+    private static final class PostConstructMethods {
+
+        private final List<Method> methods;
+        private final String error;
+
+        PostConstructMethods(List<Method> methods) {
+            this.methods = methods;
+            this.error = null;
+        }
+
+        PostConstructMethods(String error) {
+            this.methods = null;
+            this.error = error;
+        }
+    }
+}
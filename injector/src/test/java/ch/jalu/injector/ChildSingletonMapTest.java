@@ -0,0 +1,65 @@
+package ch.jalu.injector;
+
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.ProvidedClass;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test for {@link ChildSingletonMap}.
+ */
+public class ChildSingletonMapTest {
+
+    @Test
+    public void shouldLookUpObjectsInChildAndParent() {
+        // given
+        Map<Class<?>, Object> parentObjects = new HashMap<>();
+        Injector parentInjector = mock(Injector.class);
+        ProvidedClass providedClass = new ProvidedClass("");
+        parentObjects.put(Injector.class, parentInjector);
+        parentObjects.put(ProvidedClass.class, providedClass);
+        Injector childInjector = mock(Injector.class);
+        ChildSingletonMap childMap = new ChildSingletonMap(parentObjects, new HashMap<>(), childInjector);
+        AlphaService alphaService = AlphaService.newInstance(providedClass);
+
+        // when
+        childMap.put(AlphaService.class, alphaService);
+
+        // then
+        assertThat(childMap.get(Injector.class), sameInstance(childInjector));
+        assertThat(childMap.get(ProvidedClass.class), sameInstance(providedClass));
+        assertThat(childMap.get(AlphaService.class), sameInstance(alphaService));
+        assertThat(childMap.containsKey(ProvidedClass.class), equalTo(true));
+        assertThat(childMap.containsKey(String.class), equalTo(false));
+        assertThat(parentObjects.get(AlphaService.class), nullValue());
+        assertThat(childMap.size(), equalTo(3));
+    }
+
+    @Test
+    public void shouldNotPutObjectPresentInParent() {
+        // given
+        Map<Class<?>, Object> parentObjects = new HashMap<>();
+        ProvidedClass providedClass = new ProvidedClass("");
+        parentObjects.put(ProvidedClass.class, providedClass);
+        Map<Class<?>, Object> ownObjects = new HashMap<>();
+        Injector childInjector = mock(Injector.class);
+        ChildSingletonMap childMap = new ChildSingletonMap(parentObjects, ownObjects, childInjector);
+
+        // when
+        Object result1 = childMap.putIfAbsent(ProvidedClass.class, new ProvidedClass("child"));
+        Object result2 = childMap.putIfAbsent(Injector.class, mock(Injector.class));
+
+        // then
+        assertThat(result1, sameInstance(providedClass));
+        assertThat(result2, sameInstance(childInjector));
+        assertThat(ownObjects.isEmpty(), equalTo(true));
+    }
+}
@@ -3,6 +3,7 @@ package ch.jalu.injector;
 import ch.jalu.injector.exceptions.InjectorException;
 import ch.jalu.injector.handlers.Handler;
 import ch.jalu.injector.handlers.dependency.SavedAnnotationsHandler;
+import ch.jalu.injector.handlers.instantiation.StandardInstantiationStrategy;
 import ch.jalu.injector.handlers.postconstruct.PostConstructMethodInvoker;
 import ch.jalu.injector.handlers.testimplementations.ImplementationClassHandler;
 import ch.jalu.injector.handlers.testimplementations.ListeningDependencyHandler;
@@ -131,4 +132,23 @@ public class InjectorBuilderTest {
             // noop
         }
     }
+
+    @Test
+    public void shouldCreateInjectorWithMethodHandleInstantiation() {
+        // given
+        Injector injector = new InjectorBuilder()
+            .addDefaultHandlers("ch.jalu.injector", StandardInstantiationStrategy.METHOD_HANDLES)
+            .create();
+        ProvidedClass providedClass = new ProvidedClass("");
+        injector.register(ProvidedClass.class, providedClass);
+
+        // when
+        BetaManager singleton = injector.getSingleton(BetaManager.class);
+        BetaManager newInstance = injector.newInstance(BetaManager.class);
+
+        // then
+        assertThat(singleton.getDependencies()[0], sameInstance(providedClass));
+        assertThat(newInstance, not(sameInstance(singleton)));
+        assertThat(newInstance.getDependencies()[2], sameInstance(injector.getSingleton(AlphaService.class)));
+    }
 }
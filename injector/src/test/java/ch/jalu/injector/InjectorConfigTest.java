@@ -0,0 +1,61 @@
+package ch.jalu.injector;
+
+import ch.jalu.injector.handlers.Handler;
+import ch.jalu.injector.handlers.dependency.CyclicDependenciesDetector;
+import ch.jalu.injector.handlers.dependency.SavedAnnotationsHandler;
+import ch.jalu.injector.handlers.instantiation.ProviderHandler;
+import ch.jalu.injector.handlers.postconstruct.PostConstructMethodInvoker;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test for {@link InjectorConfig}.
+ */
+public class InjectorConfigTest {
+
+    @Test
+    public void shouldOnlyKeepHandlersOverridingPhaseMethod() {
+        // given
+        SavedAnnotationsHandler savedAnnotationsHandler = new SavedAnnotationsHandler();
+        ProviderHandler providerHandler = new ProviderHandler();
+        CyclicDependenciesDetector cyclicDependenciesDetector = new CyclicDependenciesDetector();
+        PostConstructMethodInvoker postConstructMethodInvoker = new PostConstructMethodInvoker();
+        Handler mockHandler = mock(Handler.class);
+        InjectorConfig config = new InjectorConfig();
+        config.addHandlers(Arrays.asList(savedAnnotationsHandler, providerHandler, cyclicDependenciesDetector,
+            postConstructMethodInvoker, mockHandler));
+
+        // when / then
+        assertThat(config.getResolveHandlers(),
+            arrayContaining(savedAnnotationsHandler, providerHandler, cyclicDependenciesDetector, mockHandler));
+        assertThat(config.getPostProcessHandlers(), arrayContaining(postConstructMethodInvoker, mockHandler));
+        assertThat(config.getAnnotationHandlers(), arrayContaining(savedAnnotationsHandler, mockHandler));
+        assertThat(config.getProviderHandlers(), arrayContaining(providerHandler, mockHandler));
+        assertThat(config.getProviderClassHandlers(), arrayContaining(providerHandler, mockHandler));
+    }
+
+    @Test
+    public void shouldUpdatePhaseHandlersIfHandlersChange() {
+        // given
+        CyclicDependenciesDetector cyclicDependenciesDetector = new CyclicDependenciesDetector();
+        PostConstructMethodInvoker postConstructMethodInvoker = new PostConstructMethodInvoker();
+        InjectorConfig config = new InjectorConfig();
+        config.addHandlers(Arrays.asList(cyclicDependenciesDetector, postConstructMethodInvoker));
+        config.freezeHandlers();
+        ProviderHandler providerHandler = new ProviderHandler();
+
+        // when
+        config.getHandlers().set(1, providerHandler);
+
+        // then
+        assertThat(config.getResolveHandlers(), arrayContaining(cyclicDependenciesDetector, providerHandler));
+        assertThat(config.getPostProcessHandlers(), emptyArray());
+        assertThat(config.getProviderHandlers(), arrayContaining(providerHandler));
+    }
+}
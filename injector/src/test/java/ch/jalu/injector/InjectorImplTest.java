@@ -4,6 +4,7 @@ import ch.jalu.injector.TestUtils.ExceptionCatcher;
 import ch.jalu.injector.context.ResolutionContext;
 import ch.jalu.injector.exceptions.InjectorException;
 import ch.jalu.injector.handlers.Handler;
+import ch.jalu.injector.handlers.dependency.CyclicDependenciesDetector;
 import ch.jalu.injector.handlers.dependency.providers.Delta;
 import ch.jalu.injector.handlers.dependency.providers.Delta1Provider;
 import ch.jalu.injector.handlers.instantiation.DefaultInjectionProvider;
@@ -11,13 +12,19 @@ import ch.jalu.injector.handlers.instantiation.Resolution;
 import ch.jalu.injector.handlers.instantiation.SimpleResolution;
 import ch.jalu.injector.handlers.instantiation.StandardInjectionProvider;
 import ch.jalu.injector.handlers.postconstruct.PostConstructMethodInvoker;
+import ch.jalu.injector.handlers.testimplementations.DeepChainHandler;
+import ch.jalu.injector.handlers.testimplementations.DeepChainHandler.ChainLink;
+import ch.jalu.injector.monitor.ResolutionMonitor;
+import ch.jalu.injector.monitor.ResolutionPhase;
 import ch.jalu.injector.samples.AlphaService;
 import ch.jalu.injector.samples.BadFieldInjection;
 import ch.jalu.injector.samples.BetaManager;
 import ch.jalu.injector.samples.CircularClasses;
 import ch.jalu.injector.samples.ClassWithAbstractDependency;
 import ch.jalu.injector.samples.ClassWithAnnotations;
+import ch.jalu.injector.samples.ConcurrencyClasses;
 import ch.jalu.injector.samples.Duration;
+import ch.jalu.injector.samples.InjectorBoundHolder;
 import ch.jalu.injector.samples.FieldInjectionWithAnnotations;
 import ch.jalu.injector.samples.GammaService;
 import ch.jalu.injector.samples.InstantiationFallbackClasses;
@@ -42,8 +49,22 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import static org.hamcrest.Matchers.arrayContaining;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
@@ -51,6 +72,7 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
@@ -285,6 +307,24 @@ public class InjectorImplTest {
         assertThat(children3, hasSize(5)); // Alpha, Beta, Gamma + ProvidedClass + Injector
     }
 
+    @Test
+    public void shouldReturnNewSingletonsOfTypeAfterRegistration() {
+        // given
+        injector.getSingleton(AlphaService.class);
+        Collection<Reloadable> reloadables1 = injector.retrieveAllOfType(Reloadable.class);
+        Collection<Reloadable> reloadables2 = injector.retrieveAllOfType(Reloadable.class);
+
+        // when
+        injector.getSingleton(GammaService.class);
+        Collection<Reloadable> reloadables3 = injector.retrieveAllOfType(Reloadable.class);
+
+        // then
+        assertThat(reloadables2, sameInstance(reloadables1));
+        assertThat(reloadables1, contains(injector.getSingleton(ProvidedClass.class)));
+        assertThat(reloadables3, contains(
+            injector.getSingleton(ProvidedClass.class), injector.getSingleton(GammaService.class)));
+    }
+
     @Test
     public void shouldUseCustomInstantiation() {
         // given
@@ -550,6 +590,673 @@ public class InjectorImplTest {
         injector.getSingleton(Child.class);
     }
 
+    @Test
+    public void shouldNotAllocateForKnownSingleton() {
+        // given
+        injector.getSingleton(AlphaService.class);
+        int totalLookups = 100_000;
+        Runnable singletonLookups = () -> {
+            for (int i = 0; i < totalLookups; ++i) {
+                injector.getSingleton(AlphaService.class);
+            }
+        };
+        singletonLookups.run(); // warm-up
+
+        // when
+        long allocatedBytes = TestUtils.measureAllocatedBytes(singletonLookups);
+
+        // then
+        // Less than 0.1 bytes per lookup: only allows for some constant overhead of the JVM and the measurement
+        assertThat(allocatedBytes, lessThan(totalLookups / 10L));
+    }
+
+    @Test
+    public void shouldCreateSingletonOnlyOnceUnderContention() throws Exception {
+        // given
+        Injector concurrentInjector = new InjectorBuilder()
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setConcurrent(true)
+            .create();
+        concurrentInjector.register(ProvidedClass.class, new ProvidedClass(""));
+        ConcurrencyClasses.CountingService.INSTANCES.set(0);
+        int totalThreads = 8;
+        CountDownLatch startSignal = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(totalThreads);
+
+        try {
+            List<Future<ConcurrencyClasses.CountingService>> futures = new ArrayList<>();
+            for (int i = 0; i < totalThreads; ++i) {
+                futures.add(executor.submit(() -> {
+                    startSignal.await();
+                    return concurrentInjector.getSingleton(ConcurrencyClasses.CountingService.class);
+                }));
+            }
+
+            // when
+            startSignal.countDown();
+            List<Object> results = new ArrayList<>();
+            for (Future<ConcurrencyClasses.CountingService> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+
+            // then
+            assertThat(ConcurrencyClasses.CountingService.INSTANCES.get(), equalTo(1));
+            assertAreAllSameInstance(results.toArray());
+            assertThat(concurrentInjector.getIfAvailable(AlphaService.class), not(nullValue()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldNotBlockCreationOfUnrelatedSingletons() throws Exception {
+        // given
+        Injector concurrentInjector = new InjectorBuilder()
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setConcurrent(true)
+            .create();
+        concurrentInjector.register(ProvidedClass.class, new ProvidedClass(""));
+        ConcurrencyClasses.BlockingService.ENTERED = new CountDownLatch(1);
+        ConcurrencyClasses.BlockingService.RELEASE = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<ConcurrencyClasses.BlockingService> blockedCreation = executor.submit(
+                () -> concurrentInjector.getSingleton(ConcurrencyClasses.BlockingService.class));
+            assertThat(ConcurrencyClasses.BlockingService.ENTERED.await(10, TimeUnit.SECONDS), equalTo(true));
+
+            // when
+            GammaService gammaService = concurrentInjector.getSingleton(GammaService.class);
+
+            // then
+            assertThat(gammaService, not(nullValue()));
+            assertThat(blockedCreation.isDone(), equalTo(false));
+            ConcurrencyClasses.BlockingService.RELEASE.countDown();
+            assertThat(blockedCreation.get(10, TimeUnit.SECONDS),
+                sameInstance(concurrentInjector.getSingleton(ConcurrencyClasses.BlockingService.class)));
+        } finally {
+            ConcurrencyClasses.BlockingService.RELEASE.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldNotCallHandlersAgainForNewInstances() {
+        // given
+        DefaultInjectionProvider injectionProvider = Mockito.spy(new DefaultInjectionProvider(ALLOWED_PACKAGE));
+        config.getHandlers().replaceAll(h -> h instanceof DefaultInjectionProvider ? injectionProvider : h);
+
+        // when
+        AlphaService alpha1 = injector.newInstance(AlphaService.class);
+        AlphaService alpha2 = injector.newInstance(AlphaService.class);
+        AlphaService alpha3 = injector.newInstance(AlphaService.class);
+
+        // then
+        assertAreAllDifferentInstances(alpha1, alpha2, alpha3);
+        assertAreAllSameInstance(alpha1.getProvidedClass(), alpha2.getProvidedClass(), alpha3.getProvidedClass());
+        verify(injectionProvider).safeGet(AlphaService.class);
+    }
+
+    @Test
+    public void shouldRecompilePlanIfHandlersChange() {
+        // given
+        injector.newInstance(AlphaService.class);
+        AlphaService alphaService = AlphaService.newInstance(new ProvidedClass(""));
+        config.getHandlers().add(0, new Handler() {
+            @Override
+            public Resolution<?> resolve(ResolutionContext context) {
+                return context.getIdentifier().getTypeAsClass() == AlphaService.class
+                    ? new SimpleResolution<>(alphaService)
+                    : null;
+            }
+        });
+
+        // when
+        AlphaService result = injector.newInstance(AlphaService.class);
+
+        // then
+        assertThat(result, sameInstance(alphaService));
+    }
+
+    @Test
+    public void shouldUseProviderRegisteredAfterNewInstance() {
+        // given
+        injector.newInstance(AlphaService.class);
+        AlphaService alphaService = AlphaService.newInstance(new ProvidedClass(""));
+
+        // when
+        injector.registerProvider(AlphaService.class, () -> alphaService);
+        AlphaService result = injector.newInstance(AlphaService.class);
+
+        // then
+        assertThat(result, sameInstance(alphaService));
+    }
+
+    @Test
+    public void shouldResolveDeepGraphIterativelyWithSmallStack() throws Exception {
+        // given
+        int chainLength = 2_000;
+        Injector iterativeInjector = new InjectorBuilder()
+            .addHandlers(new CyclicDependenciesDetector(), new DeepChainHandler(chainLength))
+            .setIterativeResolution(true)
+            .create();
+        AtomicReference<Object> result = new AtomicReference<>();
+        Thread thread = new Thread(null,
+            () -> result.set(catchThrowable(() -> iterativeInjector.getSingleton(ChainLink.class))),
+            "small-stack", 128 * 1024);
+
+        // when
+        thread.start();
+        thread.join(30_000);
+
+        // then
+        assertThat(result.get(), instanceOf(ChainLink.class));
+        int length = 0;
+        for (ChainLink link = (ChainLink) result.get(); link != null; link = link.getNext()) {
+            ++length;
+        }
+        assertThat(length, equalTo(chainLength));
+    }
+
+    @Test
+    public void shouldResolveSameObjectsIteratively() {
+        // given
+        Injector iterativeInjector = new InjectorBuilder()
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setIterativeResolution(true)
+            .create();
+        iterativeInjector.register(ProvidedClass.class, new ProvidedClass(""));
+
+        // when
+        GammaService gammaIfHasDependencies = iterativeInjector.createIfHasDependencies(GammaService.class);
+        BetaManager betaManager = iterativeInjector.getSingleton(BetaManager.class);
+        AlphaService alphaService = iterativeInjector.newInstance(AlphaService.class);
+
+        // then
+        assertThat(gammaIfHasDependencies, nullValue());
+        assertThat(betaManager.getDependencies(), arrayContaining(
+            iterativeInjector.getSingleton(ProvidedClass.class),
+            iterativeInjector.getSingleton(GammaService.class),
+            iterativeInjector.getSingleton(AlphaService.class)));
+        assertThat(alphaService, not(sameInstance(iterativeInjector.getSingleton(AlphaService.class))));
+        assertThat(alphaService.getProvidedClass(), sameInstance(iterativeInjector.getSingleton(ProvidedClass.class)));
+    }
+
+    @Test
+    public void shouldThrowForCyclicSingletonsRequestedByDifferentThreads() throws Exception {
+        // given
+        CountDownLatch dependenciesRequested = new CountDownLatch(2);
+        Injector concurrentInjector = new InjectorBuilder()
+            .addHandlers(new Handler() {
+                @Override
+                public Resolution<?> resolve(ResolutionContext context) throws Exception {
+                    // Make both threads hold the lock of their singleton before they request the other one
+                    if (!context.getParents().isEmpty()) {
+                        dependenciesRequested.countDown();
+                        dependenciesRequested.await(10, TimeUnit.SECONDS);
+                    }
+                    return null;
+                }
+            })
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setConcurrent(true)
+            .create();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<Object> result1 = executor.submit(() -> catchThrowable(
+                () -> concurrentInjector.getSingleton(ConcurrencyClasses.CyclicService1.class)));
+            Future<Object> result2 = executor.submit(() -> catchThrowable(
+                () -> concurrentInjector.getSingleton(ConcurrencyClasses.CyclicService2.class)));
+
+            // then
+            assertThat(result1.get(10, TimeUnit.SECONDS), instanceOf(InjectorException.class));
+            assertThat(result2.get(10, TimeUnit.SECONDS), instanceOf(InjectorException.class));
+            assertThat(((Exception) result1.get()).getMessage(), containsString("Found cyclic dependency"));
+            assertThat(((Exception) result2.get()).getMessage(), containsString("Found cyclic dependency"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldReleaseLocksIfIterativeResolutionFails() throws Exception {
+        // given
+        Injector iterativeInjector = new InjectorBuilder()
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setConcurrent(true)
+            .setIterativeResolution(true)
+            .create();
+        iterativeInjector.register(ProvidedClass.class, new ProvidedClass(""));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            // when
+            Object firstResult = catchThrowable(() -> iterativeInjector.getSingleton(CircularClasses.Circular3.class));
+            Object secondResult = executor.submit(() -> catchThrowable(
+                () -> iterativeInjector.getSingleton(CircularClasses.Circular1.class))).get(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(firstResult, instanceOf(InjectorException.class));
+            assertThat(((Exception) firstResult).getMessage(), containsString("Found cyclic dependency"));
+            assertThat(secondResult, instanceOf(InjectorException.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldInitializeSingletonsInParallel() {
+        // given
+        Injector concurrentInjector = new InjectorBuilder()
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setConcurrent(true)
+            .create();
+        ConcurrencyClasses.ParallelService.BARRIER = new CyclicBarrier(2);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            // when
+            concurrentInjector.initializeSingletons(
+                Collections.singletonList(ConcurrencyClasses.ParallelServicesUser.class), pool);
+
+            // then
+            ConcurrencyClasses.ParallelServicesUser user =
+                concurrentInjector.getIfAvailable(ConcurrencyClasses.ParallelServicesUser.class);
+            assertThat(user, not(nullValue()));
+            assertThat(user.areDependenciesInitialized(), equalTo(true));
+            assertThat(concurrentInjector.getIfAvailable(ConcurrencyClasses.ParallelService1.class), not(nullValue()));
+            assertThat(concurrentInjector.getIfAvailable(ConcurrencyClasses.ParallelService2.class), not(nullValue()));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldReportFailedSingletonsWithPath() {
+        // given
+        Injector concurrentInjector = new InjectorBuilder()
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setConcurrent(true)
+            .create();
+        concurrentInjector.register(ProvidedClass.class, new ProvidedClass(""));
+
+        // when
+        Object result = catchThrowable(() -> {
+            concurrentInjector.initializeSingletons(
+                Arrays.asList(ConcurrencyClasses.FailingServiceUser.class, GammaService.class), ForkJoinPool.commonPool());
+            return null;
+        });
+
+        // then
+        assertThat(result, instanceOf(InjectorException.class));
+        assertThat(((Exception) result).getMessage(), containsString("Could not create 1 singleton(s):\n- "
+            + ConcurrencyClasses.FailingServiceUser.class.getName() + " -> "
+            + ConcurrencyClasses.FailingService.class.getName() + ": "));
+        assertThat(concurrentInjector.getIfAvailable(ConcurrencyClasses.FailingServiceUser.class), nullValue());
+        assertThat(concurrentInjector.getIfAvailable(GammaService.class), not(nullValue()));
+        assertThat(concurrentInjector.getIfAvailable(AlphaService.class), not(nullValue()));
+    }
+
+    @Test
+    public void shouldThrowIfExecutorRejectsSingletonCreation() {
+        // given
+        Injector concurrentInjector = new InjectorBuilder()
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setConcurrent(true)
+            .create();
+        concurrentInjector.register(ProvidedClass.class, new ProvidedClass(""));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+
+        // when
+        Object result = catchThrowable(() -> {
+            concurrentInjector.initializeSingletons(Collections.singletonList(GammaService.class), executor);
+            return null;
+        });
+
+        // then
+        assertThat(result, instanceOf(InjectorException.class));
+        assertThat(((Exception) result).getCause(), instanceOf(RejectedExecutionException.class));
+        assertThat(concurrentInjector.getIfAvailable(GammaService.class), nullValue());
+    }
+
+    @Test
+    public void shouldThrowForParallelInitializationWithNonConcurrentInjector() {
+        // expect
+        exceptionCatcher.expect("can only be initialized in parallel by a concurrent injector");
+
+        // when
+        injector.initializeSingletons(Collections.singletonList(AlphaService.class), ForkJoinPool.commonPool());
+    }
+
+    @Test
+    public void shouldCreateSingletonAsynchronously() throws Exception {
+        // given
+        Injector concurrentInjector = new InjectorBuilder()
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setConcurrent(true)
+            .create();
+        ConcurrencyClasses.ParallelService.BARRIER = new CyclicBarrier(2);
+
+        // when
+        CompletableFuture<ConcurrencyClasses.ParallelServicesUser> future =
+            concurrentInjector.getSingletonAsync(ConcurrencyClasses.ParallelServicesUser.class);
+
+        // then
+        ConcurrencyClasses.ParallelServicesUser user = future.get(10, TimeUnit.SECONDS);
+        assertThat(user.areDependenciesInitialized(), equalTo(true));
+        assertThat(concurrentInjector.getSingleton(ConcurrencyClasses.ParallelServicesUser.class), sameInstance(user));
+        assertThat(concurrentInjector.getIfAvailable(ConcurrencyClasses.ParallelService1.class), not(nullValue()));
+    }
+
+    @Test
+    public void shouldReturnKnownSingletonAsCompletedFuture() {
+        // given
+        Injector concurrentInjector = new InjectorBuilder()
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setConcurrent(true)
+            .create();
+        ProvidedClass providedClass = new ProvidedClass("");
+        concurrentInjector.register(ProvidedClass.class, providedClass);
+        Executor executor = runnable -> {
+            throw new IllegalStateException("Not expected to be called");
+        };
+
+        // when
+        CompletableFuture<ProvidedClass> future = concurrentInjector.getSingletonAsync(ProvidedClass.class, executor);
+
+        // then
+        assertThat(future.isDone(), equalTo(true));
+        assertThat(future.join(), sameInstance(providedClass));
+    }
+
+    @Test
+    public void shouldResolveProvidedSingletonAsynchronously() throws Exception {
+        // given
+        Injector concurrentInjector = new InjectorBuilder()
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setConcurrent(true)
+            .create();
+        Delta providedDelta = () -> "provided";
+        concurrentInjector.registerProvider(Delta.class, () -> providedDelta);
+
+        // when
+        Delta delta = concurrentInjector.getSingletonAsync(Delta.class, ForkJoinPool.commonPool())
+            .get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(delta, sameInstance(providedDelta));
+        assertThat(concurrentInjector.getSingleton(Delta.class), sameInstance(providedDelta));
+    }
+
+    @Test
+    public void shouldCompleteFutureExceptionallyForFailedSingleton() {
+        // given
+        Injector concurrentInjector = new InjectorBuilder()
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setConcurrent(true)
+            .create();
+
+        // when
+        CompletableFuture<ConcurrencyClasses.FailingServiceUser> future = concurrentInjector
+            .getSingletonAsync(ConcurrencyClasses.FailingServiceUser.class, ForkJoinPool.commonPool());
+
+        // then
+        Object result = catchThrowable(future::join);
+        assertThat(result, instanceOf(CompletionException.class));
+        Throwable cause = ((Throwable) result).getCause();
+        assertThat(cause, instanceOf(InjectorException.class));
+        assertThat(cause.getMessage(), containsString("Could not create 1 singleton(s):\n- "
+            + ConcurrencyClasses.FailingServiceUser.class.getName() + " -> "
+            + ConcurrencyClasses.FailingService.class.getName() + ": "));
+        assertThat(concurrentInjector.getIfAvailable(ConcurrencyClasses.FailingServiceUser.class), nullValue());
+    }
+
+    @Test
+    public void shouldReturnSingletonsOfParentInChildInjector() {
+        // given
+        AlphaService alphaService = injector.getSingleton(AlphaService.class);
+
+        // when
+        Injector childInjector = injector.createChildInjector();
+
+        // then
+        assertThat(childInjector.getSingleton(AlphaService.class), sameInstance(alphaService));
+        assertThat(childInjector.getIfAvailable(ProvidedClass.class), sameInstance(
+            injector.getIfAvailable(ProvidedClass.class)));
+        assertThat(childInjector.getSingleton(Injector.class), sameInstance(childInjector));
+        assertThat(injector.getSingleton(Injector.class), sameInstance(injector));
+    }
+
+    @Test
+    public void shouldKeepObjectsOfChildInjectorLocal() {
+        // given
+        Injector childInjector = injector.createChildInjector();
+        Delta delta = () -> "child";
+        childInjector.register(Delta.class, delta);
+
+        // when
+        GammaService gammaService = childInjector.getSingleton(GammaService.class);
+        BetaManager betaManager = childInjector.newInstance(BetaManager.class);
+
+        // then
+        assertThat(childInjector.getSingleton(GammaService.class), sameInstance(gammaService));
+        assertThat(betaManager.getDependencies()[1], sameInstance(gammaService));
+        assertThat(childInjector.getSingleton(Delta.class), sameInstance(delta));
+        assertThat(injector.getIfAvailable(GammaService.class), nullValue());
+        assertThat(injector.getIfAvailable(AlphaService.class), nullValue());
+        assertThat(injector.getIfAvailable(Delta.class), nullValue());
+        assertThat(injector.getSingleton(GammaService.class), not(sameInstance(gammaService)));
+    }
+
+    @Test
+    public void shouldNotShareInjectorBoundResolutionsBetweenParentAndChild() {
+        // given
+        Injector childInjector = injector.createChildInjector();
+        InjectorBoundHolder childHolder = childInjector.newInstance(InjectorBoundHolder.class);
+
+        // when
+        InjectorBoundHolder parentHolder = injector.newInstance(InjectorBoundHolder.class);
+
+        // then
+        assertThat(parentHolder.getInjector(), sameInstance(injector));
+        assertThat(((InjectorBoundHolder) parentHolder.getFactory().newInstance(InjectorBoundHolder.class)).getInjector(),
+            sameInstance(injector));
+        assertThat(((InjectorBoundHolder) childHolder.getFactory().newInstance(InjectorBoundHolder.class)).getInjector(),
+            sameInstance(childInjector));
+        assertThat(((InjectorBoundHolder) injector.createChildInjector().newInstance(InjectorBoundHolder.class)
+            .getFactory().newInstance(InjectorBoundHolder.class)).getInjector(), not(sameInstance(childInjector)));
+    }
+
+    @Test
+    public void shouldShareCompiledPlansWithChildInjectors() {
+        // given
+        DefaultInjectionProvider injectionProvider = Mockito.spy(new DefaultInjectionProvider(ALLOWED_PACKAGE));
+        config.getHandlers().replaceAll(h -> h instanceof DefaultInjectionProvider ? injectionProvider : h);
+        injector.newInstance(AlphaService.class);
+
+        // when
+        AlphaService alpha1 = injector.createChildInjector().newInstance(AlphaService.class);
+        AlphaService alpha2 = injector.createChildInjector().createChildInjector().newInstance(AlphaService.class);
+
+        // then
+        assertThat(alpha1, not(sameInstance(alpha2)));
+        verify(injectionProvider).safeGet(AlphaService.class);
+    }
+
+    @Test
+    public void shouldInvalidatePlansOfChildInjectorWhenParentRegistersProvider() {
+        // given
+        Injector childInjector = injector.createChildInjector();
+        childInjector.newInstance(InjectorBoundHolder.class);
+        Provider<AlphaService> alphaServiceProvider = () -> AlphaService.newInstance(new ProvidedClass(""));
+
+        // when
+        injector.registerProvider(AlphaService.class, alphaServiceProvider);
+        InjectorBoundHolder holder = childInjector.newInstance(InjectorBoundHolder.class);
+
+        // then
+        assertThat(holder.getAlphaServiceProvider(), sameInstance(alphaServiceProvider));
+    }
+
+    @Test
+    public void shouldNotAllowChildInjectorToReplaceSingletonOfParent() {
+        // given
+        Injector childInjector = injector.createChildInjector();
+
+        // expect
+        exceptionCatcher.expect("There is already an object present for " + ProvidedClass.class);
+
+        // when
+        childInjector.register(ProvidedClass.class, new ProvidedClass("child"));
+    }
+
+    @Test
+    public void shouldNotAllowProvidersInChildInjector() {
+        // given
+        Injector childInjector = injector.createChildInjector();
+
+        // expect
+        exceptionCatcher.expect("Providers cannot be registered with a child injector");
+
+        // when
+        childInjector.registerProvider(Delta.class, Delta1Provider.class);
+    }
+
+    @Test
+    public void shouldRetrieveAllOfTypeFromParentAndChildInjector() {
+        // given
+        Injector childInjector = injector.createChildInjector();
+
+        // when
+        Collection<Injector> injectors = childInjector.retrieveAllOfType(Injector.class);
+
+        // then
+        assertThat(injectors, contains(injector, childInjector));
+        assertThat(injector.retrieveAllOfType(Injector.class), contains(injector));
+    }
+
+    @Test
+    public void shouldCreateChildInjectorWithFewAllocations() {
+        // given
+        injector.getSingleton(GammaService.class);
+        int totalChildren = 10_000;
+        Runnable childCreations = () -> {
+            for (int i = 0; i < totalChildren; ++i) {
+                injector.createChildInjector().getSingleton(GammaService.class);
+            }
+        };
+        childCreations.run(); // warm-up
+
+        // when
+        long bytesPerChild = TestUtils.measureAllocatedBytes(childCreations) / totalChildren;
+
+        // then
+        // Only allows for the child injector and its empty map of singletons: nothing is copied from the parent
+        assertThat(bytesPerChild, lessThan(512L));
+    }
+
+    @Test
+    public void shouldNotifyMonitorOfNestedResolutions() {
+        // given
+        RecordingMonitor monitor = new RecordingMonitor();
+        Injector monitoredInjector = new InjectorBuilder()
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setResolutionMonitor(monitor)
+            .create();
+        monitoredInjector.register(ProvidedClass.class, new ProvidedClass(""));
+
+        // when
+        monitoredInjector.getSingleton(GammaService.class);
+
+        // then
+        assertThat(monitor.events, contains(
+            "> GammaService", "RESOLVE GammaService", "/RESOLVE GammaService",
+              "> AlphaService", "RESOLVE AlphaService", "/RESOLVE AlphaService",
+              "INSTANTIATION AlphaService", "/INSTANTIATION AlphaService",
+              "POST_PROCESS AlphaService", "/POST_PROCESS AlphaService", "< AlphaService",
+            "INSTANTIATION GammaService", "/INSTANTIATION GammaService",
+            "POST_PROCESS GammaService", "/POST_PROCESS GammaService", "< GammaService"));
+    }
+
+    @Test
+    public void shouldNotifyMonitorInSameOrderWithIterativeResolution() {
+        // given
+        RecordingMonitor recursiveMonitor = new RecordingMonitor();
+        Injector recursiveInjector = new InjectorBuilder()
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setResolutionMonitor(recursiveMonitor)
+            .create();
+        recursiveInjector.register(ProvidedClass.class, new ProvidedClass(""));
+        RecordingMonitor iterativeMonitor = new RecordingMonitor();
+        Injector iterativeInjector = new InjectorBuilder()
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setIterativeResolution(true)
+            .setResolutionMonitor(iterativeMonitor)
+            .create();
+        iterativeInjector.register(ProvidedClass.class, new ProvidedClass(""));
+
+        // when
+        recursiveInjector.getSingleton(BetaManager.class);
+        iterativeInjector.getSingleton(BetaManager.class);
+
+        // then
+        assertThat(iterativeMonitor.events, equalTo(recursiveMonitor.events));
+        assertThat(iterativeMonitor.events, hasSize(24)); // BetaManager, GammaService and AlphaService
+    }
+
+    @Test
+    public void shouldNotifyMonitorWithoutResolvePhaseForKnownPlan() {
+        // given
+        RecordingMonitor monitor = new RecordingMonitor();
+        Injector monitoredInjector = new InjectorBuilder()
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setResolutionMonitor(monitor)
+            .create();
+        monitoredInjector.register(ProvidedClass.class, new ProvidedClass(""));
+        monitoredInjector.newInstance(AlphaService.class);
+        monitor.events.clear();
+
+        // when
+        monitoredInjector.newInstance(AlphaService.class);
+
+        // then
+        assertThat(monitor.events, contains("> AlphaService",
+            "INSTANTIATION AlphaService", "/INSTANTIATION AlphaService",
+            "POST_PROCESS AlphaService", "/POST_PROCESS AlphaService", "< AlphaService"));
+    }
+
+    @Test
+    public void shouldFinishMonitoredResolutionsOnException() {
+        // given
+        RecordingMonitor monitor = new RecordingMonitor();
+        Injector monitoredInjector = new InjectorBuilder()
+            .addDefaultHandlers(ALLOWED_PACKAGE)
+            .setIterativeResolution(true)
+            .setResolutionMonitor(monitor)
+            .create();
+        monitoredInjector.register(ProvidedClass.class, new ProvidedClass(""));
+
+        // when
+        Object result = catchThrowable(() -> monitoredInjector.getSingleton(ClassWithAbstractDependency.class));
+
+        // then
+        assertThat(result, instanceOf(InjectorException.class));
+        assertThat(monitor.events.stream().filter(e -> e.startsWith(">")).count(), equalTo(3L));
+        assertThat(monitor.events.stream().filter(e -> e.startsWith("<")).count(), equalTo(3L));
+        assertThat(monitor.events.get(monitor.events.size() - 1), equalTo("< ClassWithAbstractDependency"));
+    }
+
+    private static Object catchThrowable(Supplier<?> supplier) {
+        try {
+            return supplier.get();
+        } catch (Throwable t) {
+            return t;
+        }
+    }
+
     private static void assertAreAllSameInstance(Object... objects) {
         assertThat(Stream.of(objects).map(System::identityHashCode).distinct().count(), equalTo(1L));
     }
@@ -558,6 +1265,37 @@ public class InjectorImplTest {
         assertThat(Stream.of(objects).map(System::identityHashCode).distinct().count(), equalTo((long) objects.length));
     }
 
+    /**
+     * Monitor which records all notifications with the simple name of the requested class.
+     */
+    private static final class RecordingMonitor implements ResolutionMonitor {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void resolutionStarted(ResolutionContext context) {
+            events.add("> " + getName(context));
+        }
+
+        @Override
+        public void phaseStarted(ResolutionContext context, ResolutionPhase phase) {
+            events.add(phase + " " + getName(context));
+        }
+
+        @Override
+        public void phaseFinished(ResolutionContext context, ResolutionPhase phase) {
+            events.add("/" + phase + " " + getName(context));
+        }
+
+        @Override
+        public void resolutionFinished(ResolutionContext context) {
+            events.add("< " + getName(context));
+        }
+
+        private static String getName(ResolutionContext context) {
+            return context.getOriginalIdentifier().getTypeAsClass().getSimpleName();
+        }
+    }
+
     /**
      * Matches {@link SampleInstantiationImpl}.
      */
@@ -0,0 +1,83 @@
+package ch.jalu.injector;
+
+import ch.jalu.injector.TestUtils.ExceptionCatcher;
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.GammaService;
+import ch.jalu.injector.samples.ProvidedClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+/**
+ * Test for the default methods of {@link Injector}.
+ */
+public class InjectorTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+    private ExceptionCatcher exceptionCatcher = new ExceptionCatcher(expectedException);
+
+    @Test
+    public void shouldInitializeSingletonsSequentially() {
+        // given
+        Injector injector = mock(Injector.class, CALLS_REAL_METHODS);
+        Executor executor = mock(Executor.class);
+
+        // when
+        injector.initializeSingletons(Arrays.asList(AlphaService.class, GammaService.class), executor);
+
+        // then
+        verify(injector).getSingleton(AlphaService.class);
+        verify(injector).getSingleton(GammaService.class);
+        verifyZeroInteractions(executor);
+    }
+
+    @Test
+    public void shouldGetSingletonOnExecutor() {
+        // given
+        Injector injector = mock(Injector.class, CALLS_REAL_METHODS);
+        AlphaService alphaService = AlphaService.newInstance(new ProvidedClass(""));
+        given(injector.getSingleton(AlphaService.class)).willReturn(alphaService);
+        Executor executor = spy(new DirectExecutor());
+
+        // when
+        CompletableFuture<AlphaService> future = injector.getSingletonAsync(AlphaService.class, executor);
+
+        // then
+        assertThat(future.join(), sameInstance(alphaService));
+        verify(executor).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void shouldThrowForUnsupportedChildInjector() {
+        // given
+        Injector injector = mock(Injector.class, CALLS_REAL_METHODS);
+
+        // expect
+        exceptionCatcher.expect("Child injectors are not supported");
+
+        // when
+        injector.createChildInjector();
+    }
+
+    private static class DirectExecutor implements Executor {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package ch.jalu.injector;
+
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link SingletonTypeIndex}.
+ */
+public class SingletonTypeIndexTest {
+
+    @Test
+    public void shouldReturnSingletonsBySupertypes() {
+        // given
+        SingletonTypeIndex index = new SingletonTypeIndex();
+        Integer number1 = 1234;
+        String text = "test";
+        Long number2 = 5678L;
+        index.add(number1);
+        index.add(text);
+        index.add(number2);
+
+        // when / then
+        assertThat(index.getAllOfType(Number.class), contains(number1, number2));
+        assertThat(index.getAllOfType(Long.class), contains(number2));
+        assertThat(index.getAllOfType(CharSequence.class), contains(text));
+        assertThat(index.getAllOfType(Comparable.class), contains(number1, text, number2));
+        assertThat(index.getAllOfType(Serializable.class), contains(number1, text, number2));
+        assertThat(index.getAllOfType(Object.class), contains(number1, text, number2));
+        assertThat(index.getAllOfType(Double.class), empty());
+        assertThat(index.getAllOfType(int.class), empty());
+    }
+
+    @Test
+    public void shouldReturnSameSnapshotUntilSingletonOfTypeIsAdded() {
+        // given
+        SingletonTypeIndex index = new SingletonTypeIndex();
+        index.add(1234);
+        List<Number> numbers1 = index.getAllOfType(Number.class);
+        List<CharSequence> texts1 = index.getAllOfType(CharSequence.class);
+
+        // when
+        index.add("test");
+        List<Number> numbers2 = index.getAllOfType(Number.class);
+        List<CharSequence> texts2 = index.getAllOfType(CharSequence.class);
+
+        // then
+        assertThat(numbers2, sameInstance(numbers1));
+        assertThat(texts2, not(sameInstance(texts1)));
+        assertThat(texts1, empty());
+        assertThat(texts2, contains("test"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldReturnUnmodifiableList() {
+        // given
+        SingletonTypeIndex index = new SingletonTypeIndex();
+        index.add(1234);
+
+        // when / then
+        index.getAllOfType(Integer.class).clear();
+    }
+
+    @Test
+    public void shouldReturnSingletonsOfArrayType() {
+        // given
+        SingletonTypeIndex index = new SingletonTypeIndex();
+        String[] texts = {"a", "b"};
+        int[] numbers = {1, 2};
+        index.add(texts);
+        index.add(numbers);
+        index.add("c");
+
+        // when / then
+        assertThat(index.getAllOfType(Object[].class), contains((Object) texts));
+        assertThat(index.getAllOfType(CharSequence[].class), contains((Object) texts));
+        assertThat(index.getAllOfType(int[].class), contains(numbers));
+        assertThat(index.getAllOfType(Cloneable.class), contains(texts, numbers));
+    }
+}
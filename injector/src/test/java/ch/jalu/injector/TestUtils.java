@@ -7,6 +7,8 @@ import org.hamcrest.TypeSafeMatcher;
 import org.junit.rules.ExpectedException;
 
 import java.lang.annotation.Annotation;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
@@ -16,6 +18,7 @@ import java.util.Collection;
 import java.util.function.Predicate;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assume.assumeTrue;
 
 /**
  * Utility class for testing.
@@ -104,6 +107,29 @@ public final class TestUtils {
         };
     }
 
+    /**
+     * Returns the number of bytes allocated by the current thread while running the given action.
+     * The calling test is skipped if the JVM does not support measuring allocations per thread
+     * (see {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}).
+     *
+     * @param action the action to measure
+     * @return bytes allocated by the action (plus a small constant overhead of the measurement)
+     */
+    public static long measureAllocatedBytes(Runnable action) {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(allocationBean.isThreadAllocatedMemorySupported());
+        allocationBean.setThreadAllocatedMemoryEnabled(true);
+
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = allocationBean.getThreadAllocatedBytes(threadId);
+        action.run();
+        long bytesAfter = allocationBean.getThreadAllocatedBytes(threadId);
+        assumeTrue(bytesBefore >= 0 && bytesAfter >= 0);
+        return bytesAfter - bytesBefore;
+    }
+
     public static final class ExceptionCatcher {
         private final ExpectedException expectedException;
 
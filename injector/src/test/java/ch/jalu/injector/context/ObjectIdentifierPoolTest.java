@@ -0,0 +1,51 @@
+package ch.jalu.injector.context;
+
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.BetaManager;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link ObjectIdentifierPool}.
+ */
+public class ObjectIdentifierPoolTest {
+
+    @Test
+    public void shouldReturnPooledIdentifier() {
+        // given
+        ObjectIdentifierPool pool = new ObjectIdentifierPool();
+        ObjectIdentifier identifier1 = new ObjectIdentifier(StandardResolutionType.SINGLETON, AlphaService.class);
+        ObjectIdentifier identifier2 = new ObjectIdentifier(StandardResolutionType.SINGLETON, AlphaService.class);
+        ObjectIdentifier identifier3 = new ObjectIdentifier(StandardResolutionType.SINGLETON, BetaManager.class);
+
+        // when
+        ObjectIdentifier result1 = pool.intern(identifier1);
+        ObjectIdentifier result2 = pool.intern(identifier2);
+        ObjectIdentifier result3 = pool.intern(identifier3);
+
+        // then
+        assertThat(result1, sameInstance(identifier1));
+        assertThat(result2, sameInstance(identifier1));
+        assertThat(result3, sameInstance(identifier3));
+        assertThat(pool.size(), equalTo(2));
+    }
+
+    @Test
+    public void shouldClearPool() {
+        // given
+        ObjectIdentifierPool pool = new ObjectIdentifierPool();
+        ObjectIdentifier identifier1 = new ObjectIdentifier(StandardResolutionType.SINGLETON, AlphaService.class);
+        ObjectIdentifier identifier2 = new ObjectIdentifier(StandardResolutionType.SINGLETON, AlphaService.class);
+        pool.intern(identifier1);
+
+        // when
+        pool.clear();
+
+        // then
+        assertThat(pool.size(), equalTo(0));
+        assertThat(pool.intern(identifier2), sameInstance(identifier2));
+    }
+}
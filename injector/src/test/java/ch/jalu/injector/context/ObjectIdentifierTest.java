@@ -8,6 +8,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
 import java.util.List;
@@ -19,6 +20,8 @@ import static ch.jalu.injector.TestUtils.createParameterizedType;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -82,6 +85,70 @@ public class ObjectIdentifierTest {
         identifier.getTypeAsClass();
     }
 
+    @Test
+    public void shouldBeEqualForSameValues() {
+        // given
+        Type type = createParameterizedType(List.class, Double.class);
+        Size size = getFieldAnnotation("size3", Size.class);
+        Duration duration = getFieldAnnotation("size3", Duration.class);
+        ObjectIdentifier identifier1 = new ObjectIdentifier(StandardResolutionType.SINGLETON,
+            type, size, duration);
+        ObjectIdentifier identifier2 = new ObjectIdentifier(StandardResolutionType.SINGLETON,
+            type, duration, getFieldAnnotation("otherSize3", Size.class));
+
+        // when / then
+        assertThat(identifier1, equalTo(identifier2));
+        assertThat(identifier1.hashCode(), equalTo(identifier2.hashCode()));
+    }
+
+    @Test
+    public void shouldNotBeEqualForDifferentValues() {
+        // given
+        Size size3 = getFieldAnnotation("size3", Size.class);
+        ObjectIdentifier identifier = new ObjectIdentifier(StandardResolutionType.SINGLETON, Charlie.class, size3);
+
+        // when / then
+        assertThat(identifier, not(equalTo(new ObjectIdentifier(StandardResolutionType.REQUEST_SCOPED,
+            Charlie.class, size3))));
+        assertThat(identifier, not(equalTo(new ObjectIdentifier(StandardResolutionType.SINGLETON,
+            Duration.class, size3))));
+        assertThat(identifier, not(equalTo(new ObjectIdentifier(StandardResolutionType.SINGLETON,
+            Charlie.class, getFieldAnnotation("size4", Size.class)))));
+        assertThat(identifier, not(equalTo(new ObjectIdentifier(StandardResolutionType.SINGLETON,
+            Charlie.class))));
+    }
+
+    @Test
+    public void shouldReturnSameTypeAsClass() {
+        // given
+        ObjectIdentifier identifier = new ObjectIdentifier(null, createParameterizedType(List.class, Double.class));
+
+        // when
+        Class<?> class1 = identifier.getTypeAsClass();
+        Class<?> class2 = identifier.getTypeAsClass();
+
+        // then
+        assertThat(class1, equalTo(List.class));
+        assertThat(class2, sameInstance(class1));
+    }
+
+    private static <A extends Annotation> A getFieldAnnotation(String fieldName, Class<A> annotationType) {
+        try {
+            return AnnotatedFields.class.getDeclaredField(fieldName).getAnnotation(annotationType);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class AnnotatedFields {
+        @Size("3") @Duration
+        private Object size3;
+        @Size("3")
+        private Object otherSize3;
+        @Size("4")
+        private Object size4;
+    }
+
     private static final class WildcardTypeImpl implements WildcardType {
         @Override
         public Type[] getUpperBounds() {
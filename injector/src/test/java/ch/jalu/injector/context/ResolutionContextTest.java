@@ -3,7 +3,13 @@ package ch.jalu.injector.context;
 import ch.jalu.injector.exceptions.InjectorException;
 import org.junit.Test;
 
+import static ch.jalu.injector.context.StandardResolutionType.SINGLETON;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
@@ -28,4 +34,58 @@ public class ResolutionContextTest {
                 containsString("New mapped class '" + String.class + "' is not a child of original class"));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReturnParents() {
+        // given
+        ResolutionContext root = new ResolutionContext(null, new ObjectIdentifier(SINGLETON, Number.class));
+        ResolutionContext child = root.createChildContext(new ObjectIdentifier(SINGLETON, String.class));
+        ResolutionContext grandchild = child.createChildContext(new ObjectIdentifier(SINGLETON, Integer.class));
+
+        // when / then
+        assertThat(root.getParents(), empty());
+        assertThat(root.getParent(), nullValue());
+        assertThat(root.getRoot(), sameInstance(root));
+        assertThat(grandchild.getParents(), contains(root, child));
+        assertThat(grandchild.getParent(), sameInstance(child));
+        assertThat(grandchild.getRoot(), sameInstance(root));
+        assertThat(grandchild.getDepth(), equalTo(2));
+    }
+
+    @Test
+    public void shouldFindParentWithType() {
+        // given
+        ResolutionContext root = new ResolutionContext(null, new ObjectIdentifier(SINGLETON, Number.class));
+        ResolutionContext child1 = root.createChildContext(new ObjectIdentifier(SINGLETON, String.class));
+        ResolutionContext child2 = root.createChildContext(new ObjectIdentifier(SINGLETON, Double.class));
+        ResolutionContext grandchild1 = child1.createChildContext(new ObjectIdentifier(SINGLETON, Number.class));
+        ResolutionContext grandchild2 = child2.createChildContext(new ObjectIdentifier(SINGLETON, Integer.class));
+
+        // when / then
+        assertThat(root.findParentWithType(Number.class), nullValue());
+        assertThat(grandchild1.findParentWithType(Number.class), sameInstance(root));
+        assertThat(grandchild1.findParentWithType(String.class), sameInstance(child1));
+        assertThat(grandchild1.findParentWithType(Double.class), nullValue());
+        assertThat(grandchild2.findParentWithType(Double.class), sameInstance(child2));
+        assertThat(grandchild2.findParentWithType(String.class), nullValue());
+        // Go back to a previous branch
+        assertThat(grandchild1.findParentWithType(Double.class), nullValue());
+        assertThat(grandchild1.findParentWithType(String.class), sameInstance(child1));
+    }
+
+    @Test
+    public void shouldFindParentWithChangedIdentifier() {
+        // given
+        ResolutionContext root = new ResolutionContext(null, new ObjectIdentifier(SINGLETON, Number.class));
+        ResolutionContext child = root.createChildContext(new ObjectIdentifier(SINGLETON, Number.class));
+        ResolutionContext grandchild = child.createChildContext(new ObjectIdentifier(SINGLETON, Integer.class));
+        assertThat(grandchild.findParentWithType(Integer.class), nullValue());
+
+        // when
+        child.setIdentifier(new ObjectIdentifier(SINGLETON, Integer.class));
+
+        // then
+        assertThat(grandchild.findParentWithType(Integer.class), sameInstance(child));
+        assertThat(grandchild.findParentWithType(Number.class), sameInstance(root));
+    }
+}
@@ -0,0 +1,88 @@
+package ch.jalu.injector.handlers.dependency;
+
+import ch.jalu.injector.TestUtils.ExceptionCatcher;
+import ch.jalu.injector.factory.ObjectPool;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link LockFreeObjectPool}.
+ */
+public class LockFreeObjectPoolTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+    private ExceptionCatcher exceptionCatcher = new ExceptionCatcher(expectedException);
+
+    @Test
+    public void shouldNeverHandOutInstanceTwice() throws Exception {
+        // given
+        AtomicInteger createdInstances = new AtomicInteger();
+        ObjectPool<PooledObject> pool = new LockFreeObjectPool<>(4, () -> {
+            createdInstances.incrementAndGet();
+            return new PooledObject();
+        }, null);
+        int threads = 8;
+        int iterations = 10_000;
+        AtomicBoolean handedOutTwice = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; ++t) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < iterations; ++i) {
+                    PooledObject object = pool.acquire();
+                    if (!object.inUse.compareAndSet(false, true)) {
+                        handedOutTwice.set(true);
+                    }
+                    object.inUse.set(false);
+                    pool.release(object);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(handedOutTwice.get(), equalTo(false));
+        ObjectPool.Stats stats = pool.getStats();
+        assertThat(stats.getHitCount() + stats.getMissCount(), equalTo((long) threads * iterations));
+        assertThat(stats.getMissCount(), equalTo((long) createdInstances.get()));
+        assertThat(stats.getIdleCount(), lessThanOrEqualTo(4));
+        assertThat((long) stats.getIdleCount(), equalTo(createdInstances.get() - stats.getDiscardCount()));
+    }
+
+    @Test
+    public void shouldThrowForNullInstance() {
+        // given
+        ObjectPool<PooledObject> pool = new LockFreeObjectPool<>(2, PooledObject::new, null);
+
+        // expect
+        exceptionCatcher.expect("Instance to release may not be null");
+
+        // when
+        pool.release(null);
+    }
+
+    private static final class PooledObject {
+        private final AtomicBoolean inUse = new AtomicBoolean();
+    }
+}
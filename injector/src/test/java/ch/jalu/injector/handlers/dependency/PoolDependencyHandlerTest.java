@@ -0,0 +1,145 @@
+package ch.jalu.injector.handlers.dependency;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.TestUtils.ExceptionCatcher;
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.factory.ObjectPool;
+import ch.jalu.injector.handlers.instantiation.Resolution;
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.BetaManager;
+import ch.jalu.injector.samples.GammaService;
+import ch.jalu.injector.samples.ProvidedClass;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static ch.jalu.injector.TestUtils.createParameterizedType;
+import static ch.jalu.injector.context.StandardResolutionType.SINGLETON;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link PoolDependencyHandler}.
+ */
+public class PoolDependencyHandlerTest {
+
+    private Injector injector;
+    private PoolDependencyHandler poolHandler;
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+    private ExceptionCatcher exceptionCatcher = new ExceptionCatcher(expectedException);
+
+    @Before
+    public void setUpInjector() {
+        poolHandler = new PoolDependencyHandler();
+        injector = new InjectorBuilder()
+            .addHandlers(poolHandler)
+            .addDefaultHandlers("ch.jalu.injector.samples")
+            .create();
+        injector.register(ProvidedClass.class, new ProvidedClass(""));
+    }
+
+    @Test
+    public void shouldProvideSharedPoolPerType() {
+        // given
+        ObjectPool<BetaManager> pool = getPoolForClass(BetaManager.class);
+
+        // when
+        BetaManager manager1 = pool.acquire();
+        BetaManager manager2 = pool.acquire();
+        pool.release(manager1);
+        BetaManager manager3 = pool.acquire();
+
+        // then
+        assertThat(getPoolForClass(BetaManager.class), sameInstance(pool));
+        assertThat(manager1, not(sameInstance(manager2)));
+        assertThat(manager3, sameInstance(manager1));
+        ObjectPool.Stats stats = pool.getStats();
+        assertThat(stats.getHitCount(), equalTo(1L));
+        assertThat(stats.getMissCount(), equalTo(2L));
+        assertThat(stats.getIdleCount(), equalTo(0));
+    }
+
+    @Test
+    public void shouldUseConfiguredSizeAndResetHook() {
+        // given
+        List<BetaManager> resetManagers = new ArrayList<>();
+        poolHandler.configurePool(BetaManager.class, 1, resetManagers::add);
+        ObjectPool<BetaManager> pool = getPoolForClass(BetaManager.class);
+        BetaManager manager1 = pool.acquire();
+        BetaManager manager2 = pool.acquire();
+
+        // when
+        pool.release(manager1);
+        pool.release(manager2);
+
+        // then
+        assertThat(resetManagers, contains(manager1, manager2));
+        ObjectPool.Stats stats = pool.getStats();
+        assertThat(stats.getDiscardCount(), equalTo(1L));
+        assertThat(stats.getIdleCount(), equalTo(1));
+    }
+
+    @Test
+    public void shouldThrowForPoolWithoutGenericType() {
+        // given
+        ResolutionContext context = new ResolutionContext(injector, new ObjectIdentifier(SINGLETON, ObjectPool.class));
+
+        // expect
+        exceptionCatcher.expect("ObjectPool fields must have concrete generic type.");
+
+        // when
+        poolHandler.resolve(context);
+    }
+
+    @Test
+    public void shouldThrowForConfigurationOfCreatedPool() {
+        // given
+        getPoolForClass(BetaManager.class);
+
+        // expect
+        exceptionCatcher.expect("was already created and cannot be configured");
+
+        // when
+        poolHandler.configurePool(BetaManager.class, 4, null);
+    }
+
+    @Test
+    public void shouldCreateInstancesWithRootInjectorIfPoolIsRequestedByChild() {
+        // given
+        Injector childInjector = injector.createChildInjector();
+        GammaService childGammaService = new GammaService(AlphaService.newInstance(new ProvidedClass("child")));
+        childInjector.register(GammaService.class, childGammaService);
+        ObjectPool<BetaManager> pool = getPoolForClass(BetaManager.class, childInjector);
+
+        // when
+        BetaManager manager = pool.acquire();
+
+        // then
+        assertThat(getPoolForClass(BetaManager.class, injector), sameInstance(pool));
+        assertThat(manager.getDependencies()[1], sameInstance(injector.getSingleton(GammaService.class)));
+        assertThat(manager.getDependencies()[1], not(sameInstance(childGammaService)));
+    }
+
+    private <T> ObjectPool<T> getPoolForClass(Class<T> clazz) {
+        return getPoolForClass(clazz, injector);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ObjectPool<T> getPoolForClass(Class<T> clazz, Injector injector) {
+        ResolutionContext context = new ResolutionContext(injector,
+            new ObjectIdentifier(SINGLETON, createParameterizedType(ObjectPool.class, clazz)));
+        Resolution<?> resolution = poolHandler.resolve(context);
+        return (ObjectPool<T>) resolution.instantiateWith();
+    }
+}
@@ -0,0 +1,143 @@
+package ch.jalu.injector.handlers.instantiation;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.TestUtils;
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.exceptions.InjectorReflectionException;
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.ClassWithAnnotations;
+import ch.jalu.injector.samples.ConcurrencyClasses;
+import ch.jalu.injector.samples.DescribedService;
+import ch.jalu.injector.samples.DescribedService_InjectionDescriptor;
+import ch.jalu.injector.samples.Duration;
+import ch.jalu.injector.samples.FieldInjectionWithAnnotations;
+import ch.jalu.injector.samples.GammaService;
+import ch.jalu.injector.samples.ProvidedClass;
+import ch.jalu.injector.samples.Size;
+import org.junit.Test;
+
+import javax.inject.Inject;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test for {@link InjectionDescriptors}.
+ */
+public class InjectionDescriptorsTest {
+
+    @Test
+    public void shouldFindDescriptor() {
+        // given / when
+        InjectionDescriptor<DescribedService> descriptor = InjectionDescriptors.find(DescribedService.class);
+
+        // then
+        assertThat(descriptor, instanceOf(DescribedService_InjectionDescriptor.class));
+        assertThat(InjectionDescriptors.find(DescribedService.class), sameInstance(descriptor));
+    }
+
+    @Test
+    public void shouldReturnNullForClassesWithoutDescriptor() {
+        // given / when / then
+        assertThat(InjectionDescriptors.find(AlphaService.class), nullValue());
+        assertThat(InjectionDescriptors.find(String.class), nullValue());
+        assertThat(InjectionDescriptors.find(int.class), nullValue());
+        assertThat(InjectionDescriptors.find(AlphaService[].class), nullValue());
+    }
+
+    @Test
+    public void shouldReturnDescriptorClassName() {
+        // given / when / then
+        assertThat(InjectionDescriptors.getDescriptorClassName(DescribedService.class),
+            equalTo(DescribedService_InjectionDescriptor.class.getName()));
+        assertThat(InjectionDescriptors.getDescriptorClassName(ConcurrencyClasses.CountingService.class),
+            equalTo("ch.jalu.injector.samples.ConcurrencyClasses_CountingService_InjectionDescriptor"));
+    }
+
+    @Test
+    public void shouldCreateIdentifiersWithReflection() {
+        // given / when
+        ObjectIdentifier fieldIdentifier =
+            InjectionDescriptors.fieldIdentifier(FieldInjectionWithAnnotations.class, "duration");
+        ObjectIdentifier parameterIdentifier = InjectionDescriptors.constructorParameterIdentifier(
+            ClassWithAnnotations.class, 0, int.class, GammaService.class, long.class);
+
+        // then
+        assertThat(fieldIdentifier.getType(), equalTo(long.class));
+        assertThat(fieldIdentifier.getAnnotations().stream().map(Annotation::annotationType).collect(toList()),
+            containsInAnyOrder(Duration.class, Inject.class));
+        assertThat(parameterIdentifier.getType(), equalTo(int.class));
+        assertThat(parameterIdentifier.getAnnotations().get(0).annotationType(), equalTo(Size.class));
+    }
+
+    @Test
+    public void shouldCreateObjectWithDescriptor() {
+        // given
+        Injector injector = new InjectorBuilder()
+            .addDefaultHandlers("ch.jalu.injector", StandardInstantiationStrategy.GENERATED)
+            .create();
+        injector.register(ProvidedClass.class, new ProvidedClass(""));
+
+        // when
+        DescribedService describedService = injector.getSingleton(DescribedService.class);
+
+        // then
+        assertThat(describedService.getAlphaService(), sameInstance(injector.getSingleton(AlphaService.class)));
+        assertThat(describedService.isInitialized(), equalTo(true));
+    }
+
+    @Test
+    public void shouldOnlyUseDescriptorWithGeneratedStrategy() {
+        // given
+        StandardInjectionProvider reflectionProvider = new StandardInjectionProvider();
+        StandardInjectionProvider generatedProvider =
+            new StandardInjectionProvider(StandardInstantiationStrategy.GENERATED);
+
+        // when
+        Resolution<DescribedService> reflectionResolution = reflectionProvider.safeGet(DescribedService.class);
+        Resolution<DescribedService> generatedResolution = generatedProvider.safeGet(DescribedService.class);
+        Resolution<AlphaService> generatedFallback = generatedProvider.safeGet(AlphaService.class);
+
+        // then
+        assertThat(reflectionResolution, instanceOf(StandardInjection.class));
+        assertThat(generatedResolution, instanceOf(GeneratedInjection.class));
+        assertThat(generatedFallback, instanceOf(StandardInjection.class));
+    }
+
+    @Test
+    public void shouldWrapErrorFromDescriptorInstantiation() throws Exception {
+        // given
+        @SuppressWarnings("unchecked")
+        InjectionDescriptor<DescribedService> descriptor = mock(InjectionDescriptor.class);
+        given(descriptor.getDependencies()).willReturn(Collections.emptyList());
+        given(descriptor.instantiate(any())).willThrow(new AssertionError("Error in descriptor"));
+        GeneratedInjection<DescribedService> injection = new GeneratedInjection<>(DescribedService.class, descriptor);
+
+        // when / then
+        try {
+            injection.instantiateWith();
+            fail("Expected exception to be thrown");
+        } catch (InjectorReflectionException e) {
+            assertThat(e.getCause(), instanceOf(InvocationTargetException.class));
+            assertThat(e.getCause().getCause(), instanceOf(AssertionError.class));
+        }
+    }
+
+    @Test
+    public void shouldBeProperUtilsClass() {
+        TestUtils.assertIsProperUtilsClass(InjectionDescriptors.class);
+    }
+}
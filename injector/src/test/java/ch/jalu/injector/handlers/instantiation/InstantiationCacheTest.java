@@ -2,6 +2,7 @@ package ch.jalu.injector.handlers.instantiation;
 
 import ch.jalu.injector.Injector;
 import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.context.ObjectIdentifier;
 import ch.jalu.injector.handlers.Handler;
 import ch.jalu.injector.samples.AlphaService;
 import ch.jalu.injector.samples.BetaManager;
@@ -18,6 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import static ch.jalu.injector.context.StandardResolutionType.REQUEST_SCOPED;
 import static org.hamcrest.Matchers.aMapWithSize;
 import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.not;
@@ -82,11 +84,11 @@ public class InstantiationCacheTest {
         // then
         assertThat(manager1, not(sameInstance(manager2)));
         assertThat(getCacheMap(), aMapWithSize(1));
-        assertThat(getCacheMap().get(BetaManager.class), not(nullValue()));
+        assertThat(getCacheMap().get(new ObjectIdentifier(REQUEST_SCOPED, BetaManager.class)), not(nullValue()));
         verify(defaultInjectionProvider, times(1)).safeGet(any(Class.class));
     }
 
-    private Map<Class, WeakReference<Resolution>> getCacheMap() {
+    private Map<ObjectIdentifier, WeakReference<Resolution>> getCacheMap() {
         try {
             Field field = InstantiationCache.class.getDeclaredField("entries");
             return (Map) ReflectionUtils.getFieldValue(field, instantiationCache);
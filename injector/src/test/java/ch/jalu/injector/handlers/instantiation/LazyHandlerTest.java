@@ -0,0 +1,153 @@
+package ch.jalu.injector.handlers.instantiation;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.factory.Lazy;
+import ch.jalu.injector.samples.LazyClasses.ExpensiveService;
+import ch.jalu.injector.samples.LazyClasses.ExpensiveServiceImpl;
+import ch.jalu.injector.samples.LazyClasses.InvalidLazyUser;
+import ch.jalu.injector.samples.LazyClasses.LazyUser;
+import ch.jalu.injector.samples.ProvidedClass;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Test for {@link LazyHandler}.
+ */
+public class LazyHandlerTest {
+
+    @Test
+    public void shouldCreateSingletonOnFirstUseOfLazy() {
+        // given
+        Injector injector = createInjector(new AtomicInteger());
+        LazyUser lazyUser = injector.getSingleton(LazyUser.class);
+        Lazy<ExpensiveServiceImpl> lazyService = lazyUser.getLazyService();
+
+        // when
+        ExpensiveServiceImpl notYetCreated = injector.getIfAvailable(ExpensiveServiceImpl.class);
+        ExpensiveServiceImpl service = lazyService.get();
+
+        // then
+        assertThat(notYetCreated, nullValue());
+        assertThat(service, not(nullValue()));
+        assertThat(injector.getIfAvailable(ExpensiveServiceImpl.class), sameInstance(service));
+        assertThat(lazyService.get(), sameInstance(service));
+    }
+
+    @Test
+    public void shouldResolveProxiedDependencyOnFirstCall() {
+        // given
+        AtomicInteger providerCalls = new AtomicInteger();
+        Injector injector = createInjector(providerCalls);
+
+        // when
+        ExpensiveService proxiedService = injector.getSingleton(LazyUser.class).getProxiedService();
+
+        // then
+        assertThat(providerCalls.get(), equalTo(0));
+        assertThat(proxiedService.getName(), equalTo("expensive"));
+        assertThat(proxiedService.getName(), equalTo("expensive"));
+        assertThat(providerCalls.get(), equalTo(1));
+    }
+
+    @Test
+    public void shouldHandleObjectMethodsWithoutResolvingProxiedDependency() {
+        // given
+        AtomicInteger providerCalls = new AtomicInteger();
+        Injector injector = createInjector(providerCalls);
+        ExpensiveService proxiedService = injector.getSingleton(LazyUser.class).getProxiedService();
+        ExpensiveService otherProxiedService = injector.newInstance(LazyUser.class).getProxiedService();
+
+        // when
+        String toString = proxiedService.toString();
+        int hashCode = proxiedService.hashCode();
+        boolean equalsSelf = proxiedService.equals(proxiedService);
+        boolean equalsOther = proxiedService.equals(otherProxiedService);
+
+        // then
+        assertThat(toString, equalTo("LazyProxy[" + ExpensiveService.class.getName() + "]"));
+        assertThat(hashCode, equalTo(System.identityHashCode(proxiedService)));
+        assertThat(equalsSelf, equalTo(true));
+        assertThat(equalsOther, equalTo(false));
+        assertThat(providerCalls.get(), equalTo(0));
+        assertThat(injector.getIfAvailable(ExpensiveService.class), nullValue());
+    }
+
+    @Test
+    public void shouldPropagateExceptionFromProxiedObject() {
+        // given
+        Injector injector = createInjector(new AtomicInteger());
+        ExpensiveService proxiedService = injector.getSingleton(LazyUser.class).getProxiedService();
+
+        // when / then
+        try {
+            proxiedService.throwException();
+            fail("Expected exception to be thrown");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), equalTo("Thrown on purpose"));
+        }
+    }
+
+    @Test
+    public void shouldThrowForLazyAnnotationOnClass() {
+        // given
+        Injector injector = createInjector(new AtomicInteger());
+
+        // when / then
+        try {
+            injector.getSingleton(InvalidLazyUser.class);
+            fail("Expected exception to be thrown");
+        } catch (InjectorException e) {
+            assertThat(e.getMessage(), containsString("@Lazy is only supported for interfaces"));
+        }
+    }
+
+    @Test
+    public void shouldThrowForLazyWithoutGenericType() {
+        // given
+        LazyHandler lazyHandler = new LazyHandler();
+        ResolutionContext context = new ResolutionContext(null, new ObjectIdentifier(null, Lazy.class));
+
+        // when / then
+        try {
+            lazyHandler.resolve(context);
+            fail("Expected exception to be thrown");
+        } catch (InjectorException e) {
+            assertThat(e.getMessage(), containsString("no generic type was given"));
+        }
+    }
+
+    @Test
+    public void shouldReturnNullForOtherDependencies() {
+        // given
+        LazyHandler lazyHandler = new LazyHandler();
+        ResolutionContext context = new ResolutionContext(null, new ObjectIdentifier(null, ProvidedClass.class));
+
+        // when
+        Resolution<?> resolution = lazyHandler.resolve(context);
+
+        // then
+        assertThat(resolution, nullValue());
+    }
+
+    private static Injector createInjector(AtomicInteger providerCalls) {
+        Injector injector = new InjectorBuilder().addDefaultHandlers("ch.jalu.injector").create();
+        injector.registerProvider(ExpensiveService.class, () -> {
+            providerCalls.incrementAndGet();
+            return new ExpensiveServiceImpl();
+        });
+        return injector;
+    }
+}
@@ -0,0 +1,133 @@
+package ch.jalu.injector.handlers.instantiation;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.TestUtils.ExceptionCatcher;
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.handlers.Handler;
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.BetaManager;
+import ch.jalu.injector.samples.GammaService;
+import ch.jalu.injector.samples.ProvidedClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.List;
+
+import static ch.jalu.injector.context.StandardResolutionType.REQUEST_SCOPED;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test for {@link ResolutionCache}.
+ */
+public class ResolutionCacheTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+    private ExceptionCatcher exceptionCatcher = new ExceptionCatcher(expectedException);
+
+    @Test
+    public void shouldReuseResolutionsAcrossInjectors() {
+        // given
+        ResolutionCache cache = new ResolutionCache(10);
+        BetaManager manager1 = createInjectorWithCache(cache).newInstance(BetaManager.class);
+        long hitsBefore = cache.getStats().getHitCount();
+
+        // when
+        BetaManager manager2 = createInjectorWithCache(cache).newInstance(BetaManager.class);
+
+        // then
+        assertThat(manager1, not(sameInstance(manager2)));
+        assertThat(cache.getStats().getHitCount(), greaterThan(hitsBefore));
+    }
+
+    @Test
+    public void shouldKeepStatistics() {
+        // given
+        ResolutionCache cache = new ResolutionCache(10);
+        ResolutionContext alphaContext = newContext(AlphaService.class);
+        ResolutionContext betaContext = newContext(BetaManager.class);
+        cache.resolve(alphaContext);
+        cache.postProcess(new Object(), alphaContext, mock(Resolution.class));
+
+        // when
+        cache.resolve(alphaContext);
+        cache.resolve(alphaContext);
+        cache.resolve(betaContext);
+
+        // then
+        ResolutionCache.Stats stats = cache.getStats();
+        assertThat(stats.getHitCount(), equalTo(2L));
+        assertThat(stats.getMissCount(), equalTo(2L));
+        assertThat(stats.getEvictionCount(), equalTo(0L));
+        assertThat(stats.getSize(), equalTo(1));
+        assertThat(stats.getHitRate(), equalTo(0.5));
+    }
+
+    @Test
+    public void shouldEvictEntriesWhichWereNotRequestedAgain() {
+        // given
+        ResolutionCache cache = new ResolutionCache(2);
+        ResolutionContext alphaContext = newContext(AlphaService.class);
+        ResolutionContext betaContext = newContext(BetaManager.class);
+        ResolutionContext gammaContext = newContext(GammaService.class);
+        Resolution<?> alphaResolution = mock(Resolution.class);
+        cache.postProcess(new Object(), alphaContext, alphaResolution);
+        cache.resolve(alphaContext); // AlphaService is now in the protected segment
+        cache.postProcess(new Object(), betaContext, mock(Resolution.class));
+
+        // when
+        cache.postProcess(new Object(), gammaContext, mock(Resolution.class));
+
+        // then
+        assertThat(cache.resolve(alphaContext), sameInstance(alphaResolution));
+        assertThat(cache.resolve(betaContext), nullValue());
+        assertThat(cache.resolve(gammaContext), not(nullValue()));
+        assertThat(cache.getStats().getEvictionCount(), equalTo(1L));
+        assertThat(cache.size(), equalTo(2));
+    }
+
+    @Test
+    public void shouldClearEntries() {
+        // given
+        ResolutionCache cache = new ResolutionCache(5);
+        ResolutionContext context = newContext(AlphaService.class);
+        cache.postProcess(new Object(), context, mock(Resolution.class));
+
+        // when
+        cache.clear();
+
+        // then
+        assertThat(cache.size(), equalTo(0));
+        assertThat(cache.resolve(context), nullValue());
+    }
+
+    @Test
+    public void shouldThrowForInvalidMaximumSize() {
+        // expect
+        exceptionCatcher.expect("Maximum size must be positive");
+
+        // when
+        new ResolutionCache(0);
+    }
+
+    private static Injector createInjectorWithCache(ResolutionCache cache) {
+        List<Handler> handlers = InjectorBuilder.createDefaultHandlers("ch.jalu.injector.samples");
+        handlers.add(0, cache);
+        Injector injector = new InjectorBuilder().addHandlers(handlers).create();
+        injector.register(ProvidedClass.class, new ProvidedClass(""));
+        return injector;
+    }
+
+    private static ResolutionContext newContext(Class<?> clazz) {
+        return new ResolutionContext(null, new ObjectIdentifier(REQUEST_SCOPED, clazz));
+    }
+}
@@ -1,5 +1,6 @@
 package ch.jalu.injector.handlers.instantiation;
 
+import ch.jalu.injector.TestUtils;
 import ch.jalu.injector.TestUtils.ExceptionCatcher;
 import ch.jalu.injector.annotations.NoFieldScan;
 import ch.jalu.injector.context.ObjectIdentifier;
@@ -39,8 +40,10 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
@@ -49,6 +52,12 @@ import static org.junit.Assert.fail;
  */
 public class StandardInjectionTest {
     
+    /**
+     * Maximum number of bytes that may be allocated per instantiation: the instance itself and, for reflection,
+     * the array of constructor arguments.
+     */
+    private static final long ALLOCATION_BUDGET_PER_INSTANCE = 128;
+
     private StandardInjectionProvider provider = new StandardInjectionProvider();
 
     @Rule
@@ -316,6 +325,132 @@ public class StandardInjectionTest {
         provider.safeGet(ClassWithInjectMethod.class);
     }
 
+    @Test
+    public void shouldInstantiateWithMethodHandles() {
+        // given
+        StandardInjectionProvider provider = new StandardInjectionProvider(StandardInstantiationStrategy.METHOD_HANDLES);
+        ProvidedClass providedClass = new ProvidedClass("");
+        AlphaService alphaService = AlphaService.newInstance(providedClass);
+        GammaService gammaService = new GammaService(alphaService);
+        Resolution<ClassWithAnnotations> constructorInjection = provider.safeGet(ClassWithAnnotations.class);
+        Resolution<BetaManager> fieldInjection = provider.safeGet(BetaManager.class);
+
+        // when
+        ClassWithAnnotations instance1 = constructorInjection.instantiateWith(-112, gammaService, 19L);
+        BetaManager instance2 = fieldInjection.instantiateWith(providedClass, gammaService, alphaService);
+
+        // then
+        assertThat(instance1.getSize(), equalTo(-112));
+        assertThat(instance1.getGammaService(), equalTo(gammaService));
+        assertThat(instance1.getDuration(), equalTo(19L));
+        assertThat(instance2.getDependencies(), arrayContaining(providedClass, gammaService, alphaService));
+    }
+
+    @Test
+    public void shouldInstantiatePrivateClassWithMethodHandles() {
+        // given
+        StandardInjectionProvider provider = new StandardInjectionProvider(StandardInstantiationStrategy.METHOD_HANDLES);
+        Resolution<InnerClassWithPrivateConstructor> injection = provider.safeGet(InnerClassWithPrivateConstructor.class);
+
+        // when
+        InnerClassWithPrivateConstructor instance = injection.instantiateWith();
+
+        // then
+        assertThat(instance, not(nullValue()));
+    }
+
+    @Test
+    public void shouldForwardExceptionDuringInstantiationWithMethodHandles() {
+        // given
+        StandardInjectionProvider provider = new StandardInjectionProvider(StandardInstantiationStrategy.METHOD_HANDLES);
+        Resolution<ThrowingConstructor> injection = provider.safeGet(ThrowingConstructor.class);
+
+        // when / then
+        try {
+            injection.instantiateWith(new ProvidedClass(""));
+            fail("Expected exception to be thrown");
+        } catch (InjectorException e) {
+            assertThat(e.getCause(), instanceOf(InvocationTargetException.class));
+            assertThat(e.getCause().getCause().getMessage(), equalTo("Exception in constructor"));
+        }
+    }
+
+    @Test
+    public void shouldWrapErrorDuringInstantiationWithMethodHandles() {
+        // given
+        StandardInjectionProvider provider = new StandardInjectionProvider(StandardInstantiationStrategy.METHOD_HANDLES);
+        Resolution<ErrorThrowingConstructor> injection = provider.safeGet(ErrorThrowingConstructor.class);
+
+        // when / then
+        try {
+            injection.instantiateWith();
+            fail("Expected exception to be thrown");
+        } catch (InjectorException e) {
+            assertThat(e.getCause(), instanceOf(InvocationTargetException.class));
+            assertThat(e.getCause().getCause(), instanceOf(AssertionError.class));
+            assertThat(e.getCause().getCause().getMessage(), equalTo("Error in constructor"));
+        }
+    }
+
+    @Test
+    public void shouldInjectPrimitiveFieldsWithMethodHandles() {
+        // given
+        StandardInjectionProvider provider = new StandardInjectionProvider(StandardInstantiationStrategy.METHOD_HANDLES);
+        Resolution<FieldInjectionWithAnnotations> injection = provider.safeGet(FieldInjectionWithAnnotations.class);
+        BetaManager betaManager = new BetaManager();
+        ClassWithAnnotations classWithAnnotations = provider.safeGet(ClassWithAnnotations.class)
+            .instantiateWith(3, null, 4L);
+
+        // when
+        FieldInjectionWithAnnotations instance = injection.instantiateWith(betaManager, 33, 44L, classWithAnnotations);
+
+        // then
+        assertThat(instance.getBetaManager(), sameInstance(betaManager));
+        assertThat(instance.getSize(), equalTo(33));
+        assertThat(instance.getDuration(), equalTo(44L));
+        assertThat(instance.getClassWithAnnotations(), sameInstance(classWithAnnotations));
+    }
+
+    @Test
+    public void shouldInjectStaticFieldWithMethodHandles() {
+        // given
+        StandardInjectionProvider provider = new StandardInjectionProvider(StandardInstantiationStrategy.METHOD_HANDLES);
+        Resolution<StaticFieldInjection> injection = provider.safeGet(StaticFieldInjection.class);
+        ProvidedClass providedClass = new ProvidedClass("");
+        AlphaService alphaService = AlphaService.newInstance(providedClass);
+
+        // when
+        StaticFieldInjection instance = injection.instantiateWith(providedClass, alphaService);
+
+        // then
+        assertThat(instance.getProvidedClass(), sameInstance(providedClass));
+        assertThat(StaticFieldInjection.getAlphaService(), sameInstance(alphaService));
+    }
+
+    @Test(expected = InjectorReflectionException.class)
+    public void shouldThrowForInvalidFieldValueWithMethodHandles() {
+        // given
+        StandardInjectionProvider provider = new StandardInjectionProvider(StandardInstantiationStrategy.METHOD_HANDLES);
+        ProvidedClass providedClass = new ProvidedClass("");
+        AlphaService alphaService = AlphaService.newInstance(providedClass);
+        GammaService gammaService = new GammaService(alphaService);
+        Resolution<BetaManager> injection = provider.safeGet(BetaManager.class);
+
+        // when / then
+        // Correct order is provided, gamma, alpha
+        injection.instantiateWith(providedClass, alphaService, gammaService);
+    }
+
+    @Test(expected = InjectorReflectionException.class)
+    public void shouldThrowForInvalidConstructorArgumentWithMethodHandles() {
+        // given
+        StandardInjectionProvider provider = new StandardInjectionProvider(StandardInstantiationStrategy.METHOD_HANDLES);
+        Resolution<ClassWithAnnotations> injection = provider.safeGet(ClassWithAnnotations.class);
+
+        // when / then
+        injection.instantiateWith(-112, "not a GammaService", 19L);
+    }
+
     @SafeVarargs
     private static void assertDependencyEqualTo(ObjectIdentifier dependency, Class<?> type,
                                                 Class<? extends Annotation>... annotations) {
@@ -327,6 +462,47 @@ public class StandardInjectionTest {
         }
     }
 
+    @Test
+    public void shouldStayWithinAllocationBudgetWithReflection() {
+        // given
+        Resolution<InjectOnDifferentMembersClass> injection = provider.safeGet(InjectOnDifferentMembersClass.class);
+
+        // when
+        long bytesPerInstance = measureAllocatedBytesPerInstance(injection);
+
+        // then
+        assertThat(bytesPerInstance, lessThanOrEqualTo(ALLOCATION_BUDGET_PER_INSTANCE));
+    }
+
+    @Test
+    public void shouldStayWithinAllocationBudgetWithMethodHandles() {
+        // given
+        StandardInjectionProvider provider = new StandardInjectionProvider(StandardInstantiationStrategy.METHOD_HANDLES);
+        Resolution<InjectOnDifferentMembersClass> injection = provider.safeGet(InjectOnDifferentMembersClass.class);
+
+        // when
+        long bytesPerInstance = measureAllocatedBytesPerInstance(injection);
+
+        // then
+        assertThat(bytesPerInstance, lessThanOrEqualTo(ALLOCATION_BUDGET_PER_INSTANCE));
+    }
+
+    private static long measureAllocatedBytesPerInstance(Resolution<?> injection) {
+        ProvidedClass providedClass = new ProvidedClass("");
+        GammaService gammaService = new GammaService(AlphaService.newInstance(providedClass));
+        Object[] values = { providedClass, gammaService, new BetaManager() };
+        final int iterations = 20_000;
+        Runnable instantiations = () -> {
+            for (int i = 0; i < iterations; ++i) {
+                injection.instantiateWith(values);
+            }
+        };
+        // Warm up so that reflection accessors and method handles are fully set up
+        instantiations.run();
+
+        return TestUtils.measureAllocatedBytes(instantiations) / iterations;
+    }
+
     private static final class ThrowingConstructor {
         @Inject
         private ProvidedClass providedClass;
@@ -336,6 +512,12 @@ public class StandardInjectionTest {
         }
     }
 
+    private static final class ErrorThrowingConstructor {
+        private ErrorThrowingConstructor() {
+            throw new AssertionError("Error in constructor");
+        }
+    }
+
     private static final class InnerClassWithPrivateConstructor {
         // If the class is private, the constructor may be private as well
         private InnerClassWithPrivateConstructor() {
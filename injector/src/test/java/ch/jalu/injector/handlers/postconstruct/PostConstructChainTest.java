@@ -0,0 +1,157 @@
+package ch.jalu.injector.handlers.postconstruct;
+
+import ch.jalu.injector.TestUtils.ExceptionCatcher;
+import ch.jalu.injector.exceptions.InjectorException;
+import ch.jalu.injector.exceptions.InjectorReflectionException;
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.ProvidedClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javax.annotation.PostConstruct;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Test for {@link PostConstructChain}.
+ */
+public class PostConstructChainTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+    private ExceptionCatcher exceptionCatcher = new ExceptionCatcher(expectedException);
+
+    @Test
+    public void shouldCacheChainPerClass() {
+        // given / when
+        PostConstructChain chain1 = PostConstructChain.of(Child.class);
+        PostConstructChain chain2 = PostConstructChain.of(Child.class);
+
+        // then
+        assertThat(chain1, sameInstance(chain2));
+        assertThat(chain1.isEmpty(), equalTo(false));
+    }
+
+    @Test
+    public void shouldShareEmptyChain() {
+        // given / when
+        PostConstructChain chain1 = PostConstructChain.of(ProvidedClass.class);
+        PostConstructChain chain2 = PostConstructChain.of(AlphaService.class);
+
+        // then
+        assertThat(chain1.isEmpty(), equalTo(true));
+        assertThat(chain1, sameInstance(chain2));
+    }
+
+    @Test
+    public void shouldInvokeMethodsStartingWithParent() {
+        // given
+        Child child = new Child();
+
+        // when
+        PostConstructChain.of(Child.class).invoke(child);
+
+        // then
+        assertThat(child.calls, contains("parent", "child"));
+    }
+
+    @Test
+    public void shouldWrapExceptionFromMethod() {
+        // given
+        Throwing throwing = new Throwing();
+
+        // when
+        try {
+            PostConstructChain.of(Throwing.class).invoke(throwing);
+            fail("Expected exception to be thrown");
+        } catch (InjectorReflectionException e) {
+            // then
+            assertThat(e.getMessage(), equalTo("Could not invoke method 'fail' for " + throwing));
+            assertThat(e.getCause(), instanceOf(InvocationTargetException.class));
+            assertThat(e.getCause().getCause(), instanceOf(IllegalStateException.class));
+        }
+    }
+
+    @Test
+    public void shouldWrapErrorFromMethod() {
+        // given
+        ThrowingError throwingError = new ThrowingError();
+
+        // when
+        try {
+            PostConstructChain.of(ThrowingError.class).invoke(throwingError);
+            fail("Expected exception to be thrown");
+        } catch (InjectorReflectionException e) {
+            // then
+            assertThat(e.getMessage(), equalTo("Could not invoke method 'fail' for " + throwingError));
+            assertThat(e.getCause(), instanceOf(InvocationTargetException.class));
+            assertThat(e.getCause().getCause(), instanceOf(AssertionError.class));
+        }
+    }
+
+    @Test
+    public void shouldThrowForInvalidClassOnEveryCall() {
+        // given
+        try {
+            PostConstructChain.of(Invalid.class);
+            fail("Expected exception to be thrown");
+        } catch (InjectorException e) {
+            // continue
+        }
+
+        // expect
+        exceptionCatcher.expect("Multiple methods with @PostConstruct");
+
+        // when
+        PostConstructChain.of(Invalid.class);
+    }
+
+    private static class Parent {
+        final List<String> calls = new ArrayList<>();
+
+        @PostConstruct
+        private void parentPostConstruct() {
+            calls.add("parent");
+        }
+    }
+
+    private static final class Child extends Parent {
+        @PostConstruct
+        public void childPostConstruct() {
+            calls.add("child");
+        }
+    }
+
+    private static final class Throwing {
+        @PostConstruct
+        void fail() {
+            throw new IllegalStateException("Failure");
+        }
+    }
+
+    private static final class ThrowingError {
+        @PostConstruct
+        void fail() {
+            throw new AssertionError("Failure");
+        }
+    }
+
+    private static final class Invalid {
+        @PostConstruct
+        void postConstruct1() {
+        }
+
+        @PostConstruct
+        void postConstruct2() {
+        }
+    }
+}
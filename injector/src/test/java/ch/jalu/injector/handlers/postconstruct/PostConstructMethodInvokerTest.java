@@ -2,7 +2,10 @@ package ch.jalu.injector.handlers.postconstruct;
 
 import ch.jalu.injector.TestUtils.ExceptionCatcher;
 import ch.jalu.injector.annotations.NoMethodScan;
+import ch.jalu.injector.exceptions.InjectorReflectionException;
+import ch.jalu.injector.handlers.instantiation.InjectionDescriptor;
 import ch.jalu.injector.samples.BetaManager;
+import ch.jalu.injector.samples.DescribedService;
 import ch.jalu.injector.samples.PostConstructTestClass;
 import ch.jalu.injector.samples.ProvidedClass;
 import org.junit.Rule;
@@ -10,9 +13,15 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import javax.annotation.PostConstruct;
+import java.lang.reflect.InvocationTargetException;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 
 /**
  * Test for {@link PostConstructMethodInvoker}.
@@ -73,6 +82,45 @@ public class PostConstructMethodInvokerTest {
         postConstructInvoker.postProcess(throwsException, null, null);
     }
 
+    @Test
+    public void shouldOnlyUseDescriptorIfEnabled() {
+        // given
+        DescribedService service1 = new DescribedService();
+        DescribedService service2 = new DescribedService();
+
+        // when
+        postConstructInvoker.postProcess(service1, null, null);
+        new PostConstructMethodInvoker(true).postProcess(service2, null, null);
+
+        // then
+        assertThat(service1.isInitialized(), equalTo(false));
+        assertThat(service2.isInitialized(), equalTo(true));
+    }
+
+    @Test
+    public void shouldWrapErrorFromDescriptor() throws Exception {
+        // given
+        @SuppressWarnings("unchecked")
+        InjectionDescriptor<Object> descriptor = mock(InjectionDescriptor.class);
+        doThrow(new AssertionError("Error in descriptor")).when(descriptor).invokePostConstruct(any());
+        PostConstructMethodInvoker invoker = new PostConstructMethodInvoker(true) {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected <T> InjectionDescriptor<T> findInjectionDescriptor(Class<T> clazz) {
+                return (InjectionDescriptor<T>) descriptor;
+            }
+        };
+
+        // when / then
+        try {
+            invoker.postProcess(new DescribedService(), null, null);
+            fail("Expected exception to be thrown");
+        } catch (InjectorReflectionException e) {
+            assertThat(e.getCause(), instanceOf(InvocationTargetException.class));
+            assertThat(e.getCause().getCause(), instanceOf(AssertionError.class));
+        }
+    }
+
     @Test
     public void shouldThrowForMultiplePostConstructMethods() {
         // given
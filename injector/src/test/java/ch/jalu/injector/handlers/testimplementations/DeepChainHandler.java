@@ -0,0 +1,63 @@
+package ch.jalu.injector.handlers.testimplementations;
+
+import ch.jalu.injector.TestUtils;
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.context.ResolutionContext;
+import ch.jalu.injector.handlers.Handler;
+import ch.jalu.injector.handlers.instantiation.Resolution;
+
+import java.util.Collections;
+import java.util.List;
+
+import static ch.jalu.injector.context.StandardResolutionType.SINGLETON;
+
+/**
+ * Resolves {@link ChainLink} to a chain of the given length: every link depends on the next one.
+ * Every dependency has a distinct type so that the chain is not considered to be cyclic.
+ */
+public class DeepChainHandler implements Handler {
+
+    private final int length;
+
+    public DeepChainHandler(int length) {
+        this.length = length;
+    }
+
+    @Override
+    public Resolution<?> resolve(ResolutionContext context) {
+        if (context.getIdentifier().getTypeAsClass() != ChainLink.class) {
+            return null;
+        }
+        final int depth = context.getDepth();
+        return new Resolution<ChainLink>() {
+            @Override
+            public List<ObjectIdentifier> getDependencies() {
+                return depth + 1 < length
+                    ? Collections.singletonList(
+                        new ObjectIdentifier(SINGLETON, TestUtils.createParameterizedType(ChainLink.class)))
+                    : Collections.emptyList();
+            }
+
+            @Override
+            public ChainLink instantiateWith(Object... values) {
+                return new ChainLink(values.length == 0 ? null : (ChainLink) values[0]);
+            }
+        };
+    }
+
+    /**
+     * Link of a chain.
+     */
+    public static final class ChainLink {
+
+        private final ChainLink next;
+
+        ChainLink(ChainLink next) {
+            this.next = next;
+        }
+
+        public ChainLink getNext() {
+            return next;
+        }
+    }
+}
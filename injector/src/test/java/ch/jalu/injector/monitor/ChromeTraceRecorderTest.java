@@ -0,0 +1,156 @@
+package ch.jalu.injector.monitor;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.TestUtils.ExceptionCatcher;
+import ch.jalu.injector.monitor.ChromeTraceRecorder.Span;
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.GammaService;
+import ch.jalu.injector.samples.ProvidedClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link ChromeTraceRecorder}.
+ */
+public class ChromeTraceRecorderTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+    private ExceptionCatcher exceptionCatcher = new ExceptionCatcher(expectedException);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldRecordNestedSpans() {
+        // given
+        ChromeTraceRecorder recorder = new ChromeTraceRecorder();
+        Injector injector = createInjector(recorder);
+
+        // when
+        injector.getSingleton(GammaService.class);
+
+        // then
+        List<Span> spans = recorder.getSpans();
+        assertThat(spans.stream().map(Span::getName).collect(Collectors.toList()), contains(
+            "RESOLVE", "RESOLVE", "INSTANTIATION", "POST_PROCESS", AlphaService.class.getName(),
+            "INSTANTIATION", "POST_PROCESS", GammaService.class.getName()));
+        Span alpha = spans.get(4);
+        Span gamma = spans.get(7);
+        assertThat(gamma.getStartNanos(), lessThanOrEqualTo(alpha.getStartNanos()));
+        assertThat(alpha.getStartNanos() + alpha.getDurationNanos(),
+            lessThanOrEqualTo(gamma.getStartNanos() + gamma.getDurationNanos()));
+        assertThat(recorder.getSpanCount(), equalTo(8));
+    }
+
+    @Test
+    public void shouldWriteTraceEvents() throws IOException {
+        // given
+        ChromeTraceRecorder recorder = new ChromeTraceRecorder();
+        createInjector(recorder).getSingleton(GammaService.class);
+        Path file = temporaryFolder.newFile("trace.json").toPath();
+
+        // when
+        recorder.writeTo(file);
+
+        // then
+        String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertThat(json, startsWith("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[\n"));
+        assertThat(json, endsWith("\n]}\n"));
+        assertThat(json, containsString("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":"
+            + Thread.currentThread().getId() + ",\"args\":{\"name\":\"" + Thread.currentThread().getName() + "\"}}"));
+        assertThat(json, containsString("{\"name\":\"" + GammaService.class.getName()
+            + "\",\"cat\":\"resolution\",\"ph\":\"X\",\"pid\":1,\"tid\":" + Thread.currentThread().getId()));
+        assertThat(json, containsString("\"args\":{\"type\":\"" + AlphaService.class.getName()
+            + "\",\"resolutionType\":\"SINGLETON\",\"depth\":1}}"));
+        assertThat(json.split("\"ph\":\"X\"").length - 1, equalTo(8));
+    }
+
+    @Test
+    public void shouldDropSpansBeyondMaximum() {
+        // given
+        ChromeTraceRecorder recorder = new ChromeTraceRecorder(3);
+
+        // when
+        createInjector(recorder).getSingleton(GammaService.class);
+
+        // then
+        assertThat(recorder.getSpanCount(), equalTo(3));
+        assertThat(recorder.getDroppedSpanCount(), equalTo(5L));
+
+        // when (2)
+        recorder.clear();
+
+        // then (2)
+        assertThat(recorder.getSpans().isEmpty(), equalTo(true));
+        assertThat(recorder.getDroppedSpanCount(), equalTo(0L));
+    }
+
+    @Test
+    public void shouldEscapeJsonStrings() {
+        // given / when / then
+        assertThat(ChromeTraceRecorder.toJsonString("Map<String, ?>"), equalTo("\"Map<String, ?>\""));
+        assertThat(ChromeTraceRecorder.toJsonString("a\"b\\c\nd"), equalTo("\"a\\\"b\\\\c\\u000ad\""));
+    }
+
+    @Test
+    public void shouldWriteAsciiDigitsRegardlessOfDefaultLocale() throws IOException {
+        // given
+        ChromeTraceRecorder recorder = new ChromeTraceRecorder();
+        createInjector(recorder).getSingleton(GammaService.class);
+        Path file = temporaryFolder.newFile("trace.json").toPath();
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("th-TH-u-nu-thai"));
+
+        // when
+        String escapedNewline;
+        try {
+            recorder.writeTo(file);
+            escapedNewline = ChromeTraceRecorder.toJsonString("\n");
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+
+        // then
+        String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertThat(json.chars().allMatch(c -> c < 0x80), equalTo(true));
+        assertThat(escapedNewline, equalTo("\"\\u000a\""));
+    }
+
+    @Test
+    public void shouldRejectInvalidMaximum() {
+        // given / expect
+        exceptionCatcher.expect("Maximum number of spans must be positive");
+
+        // when
+        new ChromeTraceRecorder(0);
+    }
+
+    private static Injector createInjector(ChromeTraceRecorder recorder) {
+        Injector injector = new InjectorBuilder()
+            .addDefaultHandlers("ch.jalu.injector.samples")
+            .setResolutionMonitor(recorder)
+            .create();
+        injector.register(ProvidedClass.class, new ProvidedClass(""));
+        return injector;
+    }
+}
@@ -0,0 +1,123 @@
+package ch.jalu.injector.monitor;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.GammaService;
+import ch.jalu.injector.samples.ProvidedClass;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link FlightRecorderSupport}.
+ */
+public class FlightRecorderSupportTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Injector injector;
+
+    @Before
+    public void createInjector() {
+        injector = new InjectorBuilder()
+            .addDefaultHandlers("ch.jalu.injector.samples")
+            .create();
+        injector.register(ProvidedClass.class, new ProvidedClass(""));
+    }
+
+    @After
+    public void enableIntegration() {
+        FlightRecorderSupport.setEnabled(true);
+    }
+
+    @Test
+    public void shouldOnlyBeRecordingWhileRecordingIsRunning() {
+        // given
+        boolean isRecordingBefore = FlightRecorderSupport.isRecording();
+        boolean isRecordingDuring;
+
+        // when
+        try (Recording recording = new Recording()) {
+            recording.start();
+            isRecordingDuring = FlightRecorderSupport.isRecording();
+        }
+
+        // then
+        assertThat(isRecordingBefore, equalTo(false));
+        assertThat(isRecordingDuring, equalTo(true));
+        assertThat(FlightRecorderSupport.isRecording(), equalTo(false));
+    }
+
+    @Test
+    public void shouldEmitEventsWhileRecording() throws IOException {
+        // given / when
+        List<RecordedEvent> events = recordInjectorEvents(() -> injector.getSingleton(GammaService.class));
+
+        // then
+        List<RecordedEvent> resolutions = filterByName(events, "ch.jalu.injector.Resolution");
+        assertThat(resolutions, hasSize(2));
+        // Events are committed when they end, so the dependency comes first
+        assertEvent(resolutions.get(0), AlphaService.class, 1);
+        assertEvent(resolutions.get(1), GammaService.class, 0);
+        assertThat(filterByName(events, "ch.jalu.injector.Resolve"), hasSize(2));
+        assertThat(filterByName(events, "ch.jalu.injector.Instantiation"), hasSize(2));
+        assertThat(filterByName(events, "ch.jalu.injector.PostProcess"), hasSize(2));
+    }
+
+    @Test
+    public void shouldNotEmitEventsIfDisabled() throws IOException {
+        // given
+        FlightRecorderSupport.setEnabled(false);
+
+        // when
+        List<RecordedEvent> events = recordInjectorEvents(() -> injector.getSingleton(GammaService.class));
+
+        // then
+        assertThat(events, empty());
+    }
+
+    private List<RecordedEvent> recordInjectorEvents(Runnable action) throws IOException {
+        Path file = temporaryFolder.newFile("recording.jfr").toPath();
+        try (Recording recording = new Recording()) {
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().startsWith("ch.jalu.injector."))
+            .collect(Collectors.toList());
+    }
+
+    private static List<RecordedEvent> filterByName(List<RecordedEvent> events, String name) {
+        return events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .collect(Collectors.toList());
+    }
+
+    private static void assertEvent(RecordedEvent event, Class<?> requestedType, int depth) {
+        assertThat(event.<RecordedClass>getValue("requestedType").getName(), equalTo(requestedType.getName()));
+        assertThat(event.getString("resolutionType"), equalTo("SINGLETON"));
+        assertThat(event.<RecordedClass>getValue("handler"), notNullValue());
+        assertThat(event.getInt("depth"), equalTo(depth));
+    }
+}
@@ -0,0 +1,120 @@
+package ch.jalu.injector.monitor;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.monitor.ResolutionMetrics.Snapshot;
+import ch.jalu.injector.monitor.ResolutionMetrics.TypeMetrics;
+import ch.jalu.injector.samples.AlphaService;
+import ch.jalu.injector.samples.BetaManager;
+import ch.jalu.injector.samples.GammaService;
+import ch.jalu.injector.samples.ProvidedClass;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static ch.jalu.injector.context.StandardResolutionType.REQUEST_SCOPED;
+import static ch.jalu.injector.context.StandardResolutionType.SINGLETON;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link ResolutionMetrics}.
+ */
+public class ResolutionMetricsTest {
+
+    private ResolutionMetrics metrics;
+    private Injector injector;
+
+    @Before
+    public void createInjector() {
+        metrics = new ResolutionMetrics();
+        injector = new InjectorBuilder()
+            .addDefaultHandlers("ch.jalu.injector.samples")
+            .setResolutionMonitor(metrics)
+            .create();
+        injector.register(ProvidedClass.class, new ProvidedClass(""));
+    }
+
+    @Test
+    public void shouldRecordSingletonResolutions() {
+        // given / when
+        injector.getSingleton(GammaService.class);
+
+        // then
+        Snapshot snapshot = metrics.getSnapshot();
+        assertThat(snapshot.getAll().size(), equalTo(2));
+        TypeMetrics gamma = snapshot.get(new ObjectIdentifier(SINGLETON, GammaService.class));
+        TypeMetrics alpha = snapshot.getByType(AlphaService.class).get(0);
+        assertThat(gamma.getCount(), equalTo(1L));
+        assertThat(alpha.getCount(), equalTo(1L));
+        // AlphaService is the only dependency of GammaService which had to be created
+        assertThat(gamma.getSelfNanos() + alpha.getTotalNanos(), equalTo(gamma.getTotalNanos()));
+        assertThat(alpha.getSelfNanos(), equalTo(alpha.getTotalNanos()));
+        assertThat(gamma.getPhaseNanos(ResolutionPhase.RESOLVE)
+            + gamma.getPhaseNanos(ResolutionPhase.INSTANTIATION)
+            + gamma.getPhaseNanos(ResolutionPhase.POST_PROCESS), lessThanOrEqualTo(gamma.getSelfNanos()));
+    }
+
+    @Test
+    public void shouldRecordRepeatedResolutions() {
+        // given / when
+        for (int i = 0; i < 3; ++i) {
+            injector.newInstance(AlphaService.class);
+        }
+
+        // then
+        TypeMetrics alpha = metrics.getSnapshot().get(new ObjectIdentifier(REQUEST_SCOPED, AlphaService.class));
+        assertThat(alpha.getCount(), equalTo(3L));
+        assertThat(Arrays.stream(alpha.getHistogram()).sum(), equalTo(3L));
+        assertThat(alpha.getTotalNanos(), greaterThan(0L));
+    }
+
+    @Test
+    public void shouldReturnSlowestBySelfTime() {
+        // given
+        injector.getSingleton(BetaManager.class);
+        Snapshot snapshot = metrics.getSnapshot();
+
+        // when
+        List<TypeMetrics> slowest = snapshot.getSlowest(2);
+
+        // then
+        assertThat(snapshot.getAll().size(), equalTo(3));
+        assertThat(slowest, hasSize(2));
+        assertThat(slowest.get(0).getSelfNanos(), greaterThanOrEqualTo(slowest.get(1).getSelfNanos()));
+    }
+
+    @Test
+    public void shouldResetMetrics() {
+        // given
+        injector.getSingleton(GammaService.class);
+
+        // when
+        metrics.reset();
+
+        // then
+        assertThat(metrics.getSnapshot().getAll(), anEmptyMap());
+        assertThat(metrics.getSnapshot().get(new ObjectIdentifier(SINGLETON, GammaService.class)), nullValue());
+    }
+
+    @Test
+    public void shouldDetermineHistogramBucket() {
+        // given / when / then
+        assertThat(ResolutionMetrics.getHistogramBucket(0), equalTo(0));
+        assertThat(ResolutionMetrics.getHistogramBucket(999), equalTo(0));
+        assertThat(ResolutionMetrics.getHistogramBucket(1000), equalTo(1));
+        assertThat(ResolutionMetrics.getHistogramBucket(3999), equalTo(2));
+        assertThat(ResolutionMetrics.getHistogramBucket(4000), equalTo(3));
+        assertThat(ResolutionMetrics.getHistogramBucket(Long.MAX_VALUE),
+            equalTo(ResolutionMetrics.HISTOGRAM_BUCKETS - 1));
+    }
+}
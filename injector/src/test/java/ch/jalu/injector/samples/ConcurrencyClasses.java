@@ -0,0 +1,121 @@
+package ch.jalu.injector.samples;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Classes for testing the injector's concurrent mode.
+ */
+public abstract class ConcurrencyClasses {
+
+    /**
+     * Counts how many times it is instantiated. Instantiation is slow to widen the window for races.
+     */
+    public static final class CountingService {
+        public static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        @Inject
+        CountingService(AlphaService alphaService) throws InterruptedException {
+            INSTANCES.incrementAndGet();
+            Thread.sleep(50);
+        }
+    }
+
+    /**
+     * Blocks in its constructor until {@link #RELEASE} is counted down.
+     */
+    public static final class BlockingService {
+        public static volatile CountDownLatch ENTERED;
+        public static volatile CountDownLatch RELEASE;
+
+        @Inject
+        BlockingService() throws InterruptedException {
+            ENTERED.countDown();
+            if (!RELEASE.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Was not released");
+            }
+        }
+    }
+
+    /**
+     * Waits in its post construct method until {@link #BARRIER} is reached by as many parallel services
+     * as it expects, i.e. can only be created if the services are initialized in parallel.
+     */
+    public static class ParallelService {
+        public static volatile CyclicBarrier BARRIER;
+        private boolean initialized;
+
+        @PostConstruct
+        void waitForOthers() throws Exception {
+            BARRIER.await(10, TimeUnit.SECONDS);
+            initialized = true;
+        }
+
+        public boolean isInitialized() {
+            return initialized;
+        }
+    }
+
+    public static final class ParallelService1 extends ParallelService {
+    }
+
+    public static final class ParallelService2 extends ParallelService {
+    }
+
+    /**
+     * Depends on the parallel services and records whether they were initialized beforehand.
+     */
+    public static final class ParallelServicesUser {
+        private final boolean dependenciesInitialized;
+
+        @Inject
+        ParallelServicesUser(ParallelService1 service1, ParallelService2 service2) {
+            dependenciesInitialized = service1.isInitialized() && service2.isInitialized();
+        }
+
+        public boolean areDependenciesInitialized() {
+            return dependenciesInitialized;
+        }
+    }
+
+    /**
+     * Throws an exception in its post construct method.
+     */
+    public static final class FailingService {
+        @PostConstruct
+        void fail() {
+            throw new IllegalStateException("Failing on purpose");
+        }
+    }
+
+    /**
+     * Depends on {@link FailingService}.
+     */
+    public static final class FailingServiceUser {
+        @Inject
+        FailingServiceUser(FailingService failingService) {
+        }
+    }
+
+    /**
+     * Depends on {@link CyclicService2}, which depends on this class.
+     */
+    public static final class CyclicService1 {
+        @Inject
+        CyclicService1(CyclicService2 cyclicService2) {
+        }
+    }
+
+    /**
+     * Depends on {@link CyclicService1}, which depends on this class.
+     */
+    public static final class CyclicService2 {
+        @Inject
+        CyclicService2(CyclicService1 cyclicService1) {
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package ch.jalu.injector.samples;
+
+/**
+ * Sample with a hand-written injection descriptor. Has no annotations, so its dependency is only injected
+ * and its initialization only run if the descriptor is used.
+ */
+public class DescribedService {
+
+    AlphaService alphaService;
+    boolean initialized;
+
+    public AlphaService getAlphaService() {
+        return alphaService;
+    }
+
+    public boolean isInitialized() {
+        return initialized;
+    }
+}
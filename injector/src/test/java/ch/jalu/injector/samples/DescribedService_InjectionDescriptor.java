@@ -0,0 +1,32 @@
+package ch.jalu.injector.samples;
+
+import ch.jalu.injector.context.ObjectIdentifier;
+import ch.jalu.injector.handlers.instantiation.InjectionDescriptor;
+
+import java.util.Collections;
+import java.util.List;
+
+import static ch.jalu.injector.context.StandardResolutionType.SINGLETON;
+
+/**
+ * Injection descriptor of {@link DescribedService}, as it could be generated by the annotation processor.
+ */
+public final class DescribedService_InjectionDescriptor implements InjectionDescriptor<DescribedService> {
+
+    @Override
+    public List<ObjectIdentifier> getDependencies() {
+        return Collections.singletonList(new ObjectIdentifier(SINGLETON, AlphaService.class));
+    }
+
+    @Override
+    public DescribedService instantiate(Object[] values) {
+        DescribedService instance = new DescribedService();
+        instance.alphaService = (AlphaService) values[0];
+        return instance;
+    }
+
+    @Override
+    public void invokePostConstruct(DescribedService instance) {
+        instance.initialized = true;
+    }
+}
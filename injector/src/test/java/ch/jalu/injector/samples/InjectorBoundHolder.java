@@ -0,0 +1,32 @@
+package ch.jalu.injector.samples;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.factory.Factory;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+/**
+ * Sample - class with dependencies whose resolution depends on the injector which created it.
+ */
+public class InjectorBoundHolder {
+
+    @Inject
+    private Factory<Object> factory;
+    @Inject
+    private Injector injector;
+    @Inject
+    private Provider<AlphaService> alphaServiceProvider;
+
+    public Factory<Object> getFactory() {
+        return factory;
+    }
+
+    public Injector getInjector() {
+        return injector;
+    }
+
+    public Provider<AlphaService> getAlphaServiceProvider() {
+        return alphaServiceProvider;
+    }
+}
@@ -0,0 +1,63 @@
+package ch.jalu.injector.samples;
+
+import ch.jalu.injector.factory.Lazy;
+
+import javax.inject.Inject;
+
+/**
+ * Classes for testing lazily injected dependencies.
+ */
+public abstract class LazyClasses {
+
+    /**
+     * Service which is expensive to create.
+     */
+    public interface ExpensiveService {
+
+        String getName();
+
+        void throwException();
+
+    }
+
+    public static final class ExpensiveServiceImpl implements ExpensiveService {
+
+        @Override
+        public String getName() {
+            return "expensive";
+        }
+
+        @Override
+        public void throwException() {
+            throw new IllegalStateException("Thrown on purpose");
+        }
+    }
+
+    /**
+     * Has a lazy dependency and a lazy proxy.
+     */
+    public static final class LazyUser {
+        @Inject
+        private Lazy<ExpensiveServiceImpl> lazyService;
+        @Inject
+        @ch.jalu.injector.annotations.Lazy
+        private ExpensiveService proxiedService;
+
+        public Lazy<ExpensiveServiceImpl> getLazyService() {
+            return lazyService;
+        }
+
+        public ExpensiveService getProxiedService() {
+            return proxiedService;
+        }
+    }
+
+    /**
+     * Has the {@code @Lazy} annotation on a field whose type is not an interface.
+     */
+    public static final class InvalidLazyUser {
+        @Inject
+        @ch.jalu.injector.annotations.Lazy
+        private ExpensiveServiceImpl service;
+    }
+}
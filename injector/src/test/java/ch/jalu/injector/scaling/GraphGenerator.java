@@ -0,0 +1,372 @@
+package ch.jalu.injector.scaling;
+
+import ch.jalu.injector.Injector;
+import javassist.CannotCompileException;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtConstructor;
+import javassist.CtField;
+import javassist.CtMethod;
+import javassist.CtNewConstructor;
+import javassist.CtNewMethod;
+import javassist.LoaderClassPath;
+import javassist.NotFoundException;
+import javassist.bytecode.AnnotationsAttribute;
+import javassist.bytecode.ConstPool;
+import javassist.bytecode.annotation.Annotation;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates graphs of injectable classes with Javassist, for testing the injector with a large number of classes.
+ * <p>
+ * Classes are numbered and only depend on classes with a higher number, so the graph has no cycles. The classes
+ * without dependents are the roots of the graph. The last classes are leaves which can only be created by their
+ * provider class (see {@link #providers}). Dependencies are chosen randomly with a fixed seed, so the same
+ * settings always generate the same graph.
+ * <p>
+ * Every call to {@link #generate()} defines the classes in a new package and class loader.
+ */
+public class GraphGenerator {
+
+    /** Root package of all generated classes. */
+    public static final String ROOT_PACKAGE = "ch.jalu.injector.scaling.generated";
+
+    private static final AtomicInteger GRAPH_COUNTER = new AtomicInteger();
+
+    private int classes = 100;
+    private int fanOut = 3;
+    private int fanIn = 5;
+    private double fieldInjectionRatio = 0.5;
+    private int providers = 0;
+    private int postConstructMethods = 0;
+    private long seed = 42;
+
+    /**
+     * @param classes the number of classes to generate, excluding provider classes
+     * @return this generator
+     */
+    public GraphGenerator classes(int classes) {
+        this.classes = classes;
+        return this;
+    }
+
+    /**
+     * @param fanOut the maximum number of dependencies per class
+     * @return this generator
+     */
+    public GraphGenerator fanOut(int fanOut) {
+        this.fanOut = fanOut;
+        return this;
+    }
+
+    /**
+     * @param fanIn the maximum number of dependents per class
+     * @return this generator
+     */
+    public GraphGenerator fanIn(int fanIn) {
+        this.fanIn = fanIn;
+        return this;
+    }
+
+    /**
+     * @param fieldInjectionRatio the share of classes with dependencies which use field injection
+     *        (between 0 and 1); the other classes use constructor injection
+     * @return this generator
+     */
+    public GraphGenerator fieldInjectionRatio(double fieldInjectionRatio) {
+        this.fieldInjectionRatio = fieldInjectionRatio;
+        return this;
+    }
+
+    /**
+     * @param providers the number of classes which are created by a provider class
+     * @return this generator
+     */
+    public GraphGenerator providers(int providers) {
+        this.providers = providers;
+        return this;
+    }
+
+    /**
+     * @param postConstructMethods the number of classes with a {@code @PostConstruct} method
+     * @return this generator
+     */
+    public GraphGenerator postConstructMethods(int postConstructMethods) {
+        this.postConstructMethods = postConstructMethods;
+        return this;
+    }
+
+    /**
+     * @param seed the seed for choosing the dependencies
+     * @return this generator
+     */
+    public GraphGenerator seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Generates and loads the classes of a new graph.
+     *
+     * @return the generated graph
+     */
+    public GeneratedGraph generate() {
+        if (providers > classes) {
+            throw new IllegalStateException("Cannot have more providers than classes");
+        }
+        String packageName = ROOT_PACKAGE + ".g" + GRAPH_COUNTER.incrementAndGet();
+        List<int[]> dependencies = chooseDependencies();
+
+        ClassPool pool = new ClassPool(true);
+        pool.appendClassPath(new LoaderClassPath(GraphGenerator.class.getClassLoader()));
+        try {
+            return defineClasses(pool, packageName, dependencies);
+        } catch (NotFoundException | CannotCompileException | IOException e) {
+            throw new IllegalStateException("Could not generate graph", e);
+        }
+    }
+
+    private List<int[]> chooseDependencies() {
+        Random random = new Random(seed);
+        int[] dependentCount = new int[classes];
+        int firstProvided = classes - providers;
+        List<int[]> dependencies = new ArrayList<>(classes);
+        for (int i = 0; i < classes; ++i) {
+            List<Integer> chosen = new ArrayList<>(fanOut);
+            int candidates = classes - i - 1;
+            if (i < firstProvided) {
+                // Try a few random candidates per dependency: classes with the maximum fan-in are skipped
+                for (int attempt = 0; attempt < 4 * fanOut && chosen.size() < fanOut && candidates > 0; ++attempt) {
+                    int candidate = i + 1 + random.nextInt(candidates);
+                    if (dependentCount[candidate] < fanIn && !chosen.contains(candidate)) {
+                        chosen.add(candidate);
+                        ++dependentCount[candidate];
+                    }
+                }
+            }
+            dependencies.add(chosen.stream().mapToInt(Integer::intValue).toArray());
+        }
+        return dependencies;
+    }
+
+    private GeneratedGraph defineClasses(ClassPool pool, String packageName, List<int[]> dependencies)
+                                                     throws NotFoundException, CannotCompileException, IOException {
+        int firstProvided = classes - providers;
+        CtClass[] ctClasses = new CtClass[classes];
+        for (int i = 0; i < classes; ++i) {
+            ctClasses[i] = pool.makeClass(packageName + ".Class" + i);
+        }
+
+        Map<String, byte[]> bytecode = new HashMap<>();
+        Map<String, String> providerNames = new LinkedHashMap<>();
+        boolean[] isDependency = new boolean[classes];
+        for (int i = 0; i < classes; ++i) {
+            CtClass ctClass = ctClasses[i];
+            int[] classDependencies = dependencies.get(i);
+            for (int dependency : classDependencies) {
+                isDependency[dependency] = true;
+            }
+
+            if (i >= firstProvided) {
+                addProvidedClassMembers(ctClass);
+                CtClass provider = createProvider(pool, ctClass);
+                providerNames.put(ctClass.getName(), provider.getName());
+                bytecode.put(provider.getName(), provider.toBytecode());
+                provider.detach();
+            } else if (classDependencies.length > 0 && isFieldInjection(i)) {
+                addInjectedFields(ctClass, ctClasses, classDependencies);
+            } else {
+                addInjectConstructor(ctClass, ctClasses, classDependencies);
+            }
+            if (hasPostConstructMethod(i)) {
+                addPostConstructMethod(ctClass);
+            }
+        }
+        for (CtClass ctClass : ctClasses) {
+            bytecode.put(ctClass.getName(), ctClass.toBytecode());
+            ctClass.detach();
+        }
+
+        GeneratedClassLoader loader = new GeneratedClassLoader(bytecode);
+        List<Class<?>> allClasses = new ArrayList<>(classes);
+        List<Class<?>> roots = new ArrayList<>();
+        for (int i = 0; i < classes; ++i) {
+            Class<?> clazz = loader.load(packageName + ".Class" + i);
+            allClasses.add(clazz);
+            if (!isDependency[i]) {
+                roots.add(clazz);
+            }
+        }
+        Map<Class<?>, Class<?>> providerClasses = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : providerNames.entrySet()) {
+            providerClasses.put(loader.load(entry.getKey()), loader.load(entry.getValue()));
+        }
+        return new GeneratedGraph(allClasses, roots, providerClasses);
+    }
+
+    /**
+     * Distributes the classes with field injection evenly among the classes with dependencies.
+     */
+    private boolean isFieldInjection(int index) {
+        return Math.floor((index + 1) * fieldInjectionRatio) > Math.floor(index * fieldInjectionRatio);
+    }
+
+    /**
+     * Distributes the {@code @PostConstruct} methods evenly among all classes.
+     */
+    private boolean hasPostConstructMethod(int index) {
+        return (long) (index + 1) * postConstructMethods / classes > (long) index * postConstructMethods / classes;
+    }
+
+    private static void addInjectConstructor(CtClass ctClass, CtClass[] ctClasses, int[] dependencies)
+                                                                throws CannotCompileException {
+        CtClass[] parameters = new CtClass[dependencies.length];
+        StringBuilder body = new StringBuilder("{");
+        for (int i = 0; i < dependencies.length; ++i) {
+            parameters[i] = ctClasses[dependencies[i]];
+            ctClass.addField(new CtField(parameters[i], "dependency" + i, ctClass));
+            body.append("this.dependency").append(i).append(" = $").append(i + 1).append(';');
+        }
+        body.append('}');
+        CtConstructor constructor = CtNewConstructor.make(parameters, new CtClass[0], body.toString(), ctClass);
+        constructor.getMethodInfo().addAttribute(createAnnotationAttribute(ctClass, Inject.class));
+        ctClass.addConstructor(constructor);
+    }
+
+    private static void addInjectedFields(CtClass ctClass, CtClass[] ctClasses, int[] dependencies)
+                                                                throws CannotCompileException {
+        for (int i = 0; i < dependencies.length; ++i) {
+            CtField field = new CtField(ctClasses[dependencies[i]], "dependency" + i, ctClass);
+            field.getFieldInfo().addAttribute(createAnnotationAttribute(ctClass, Inject.class));
+            ctClass.addField(field);
+        }
+        ctClass.addConstructor(CtNewConstructor.defaultConstructor(ctClass));
+    }
+
+    private static void addProvidedClassMembers(CtClass ctClass) throws NotFoundException, CannotCompileException {
+        // Constructor with a String so that the class cannot be instantiated without its provider
+        CtClass[] parameters = { ctClass.getClassPool().get(String.class.getName()) };
+        ctClass.addConstructor(CtNewConstructor.make(parameters, new CtClass[0], "{}", ctClass));
+    }
+
+    private static CtClass createProvider(ClassPool pool, CtClass providedClass)
+                                                         throws NotFoundException, CannotCompileException {
+        CtClass provider = pool.makeClass(providedClass.getName() + "Provider");
+        provider.addInterface(pool.get(Provider.class.getName()));
+        provider.addConstructor(CtNewConstructor.defaultConstructor(provider));
+        provider.addMethod(CtNewMethod.make(
+            "public Object get() { return new " + providedClass.getName() + "(\"provided\"); }", provider));
+        return provider;
+    }
+
+    private static void addPostConstructMethod(CtClass ctClass) throws CannotCompileException {
+        ctClass.addField(CtField.make("public boolean initialized;", ctClass));
+        CtMethod method = CtNewMethod.make("public void init() { this.initialized = true; }", ctClass);
+        method.getMethodInfo().addAttribute(createAnnotationAttribute(ctClass, PostConstruct.class));
+        ctClass.addMethod(method);
+    }
+
+    private static AnnotationsAttribute createAnnotationAttribute(CtClass ctClass,
+                                                                  Class<? extends java.lang.annotation.Annotation> type) {
+        ConstPool constPool = ctClass.getClassFile().getConstPool();
+        AnnotationsAttribute attribute = new AnnotationsAttribute(constPool, AnnotationsAttribute.visibleTag);
+        attribute.addAnnotation(new Annotation(type.getName(), constPool));
+        return attribute;
+    }
+
+    /**
+     * Classes of a generated graph.
+     */
+    public static final class GeneratedGraph {
+
+        private final List<Class<?>> classes;
+        private final List<Class<?>> roots;
+        private final Map<Class<?>, Class<?>> providers;
+
+        GeneratedGraph(List<Class<?>> classes, List<Class<?>> roots, Map<Class<?>, Class<?>> providers) {
+            this.classes = Collections.unmodifiableList(classes);
+            this.roots = Collections.unmodifiableList(roots);
+            this.providers = Collections.unmodifiableMap(providers);
+        }
+
+        /**
+         * @return all generated classes, excluding providers
+         */
+        public List<Class<?>> getClasses() {
+            return classes;
+        }
+
+        /**
+         * @return the classes no other class depends on
+         */
+        public List<Class<?>> getRoots() {
+            return roots;
+        }
+
+        /**
+         * @return provider class by the class it provides
+         */
+        public Map<Class<?>, Class<?>> getProviders() {
+            return providers;
+        }
+
+        /**
+         * Registers the provider classes of the graph to the given injector.
+         *
+         * @param injector the injector to register the providers with
+         */
+        @SuppressWarnings("unchecked")
+        public void registerProviders(Injector injector) {
+            for (Map.Entry<Class<?>, Class<?>> entry : providers.entrySet()) {
+                injector.registerProvider((Class) entry.getKey(), (Class) entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Class loader defining the generated classes from their bytecode when they are first requested.
+     */
+    private static final class GeneratedClassLoader extends ClassLoader {
+
+        private final Map<String, byte[]> bytecode;
+
+        GeneratedClassLoader(Map<String, byte[]> bytecode) {
+            super(GraphGenerator.class.getClassLoader());
+            this.bytecode = bytecode;
+        }
+
+        Class<?> load(String name) {
+            try {
+                return loadClass(name);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] classBytes = bytecode.remove(name);
+            if (classBytes == null) {
+                throw new ClassNotFoundException(name);
+            }
+            // The injector checks the package of classes, which is only set if it is defined explicitly
+            String packageName = name.substring(0, name.lastIndexOf('.'));
+            if (getPackage(packageName) == null) {
+                definePackage(packageName, null, null, null, null, null, null, null);
+            }
+            return defineClass(name, classBytes, 0, classBytes.length);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package ch.jalu.injector.scaling;
+
+import ch.jalu.injector.Injector;
+import ch.jalu.injector.InjectorBuilder;
+import ch.jalu.injector.scaling.GraphGenerator.GeneratedGraph;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Measures the time and heap needed to create the singletons of large generated graphs (see {@link GraphGenerator}).
+ * The budgets per class are generous so that the tests only fail if startup no longer scales linearly or the
+ * injector keeps far more data per singleton than it should. The large graphs are only tested if the system property {@value #SCALING_PROPERTY} is set to true, e.g. with
+ * {@code mvn test -Dtest=StartupScalingTest -Dinjector.scaling=true}.
+ */
+public class StartupScalingTest {
+
+    private static final String SCALING_PROPERTY = "injector.scaling";
+    /** Maximum time per class in microseconds. Around 100 microseconds per class are typical. */
+    private static final long MAX_MICROS_PER_CLASS = 2_000;
+    /** Maximum heap per class in bytes. Around 2.5 KiB per class are typical. */
+    private static final long MAX_HEAP_BYTES_PER_CLASS = 16 * 1024;
+
+    @Test
+    public void shouldCreateSingletonsOfGeneratedGraph() throws ReflectiveOperationException {
+        // given
+        GeneratedGraph graph = new GraphGenerator()
+            .classes(200)
+            .providers(10)
+            .postConstructMethods(20)
+            .generate();
+        Injector injector = createInjector(graph);
+
+        // when
+        for (Class<?> root : graph.getRoots()) {
+            injector.getSingleton(root);
+        }
+
+        // then
+        assertThat(graph.getRoots(), not(empty()));
+        assertThat(graph.getProviders().size(), equalTo(10));
+        int postConstructCount = 0;
+        for (Class<?> clazz : graph.getClasses()) {
+            Object singleton = injector.getIfAvailable(clazz);
+            assertThat(singleton, notNullValue());
+            Field initializedField = findInitializedField(clazz);
+            if (initializedField != null) {
+                assertThat(initializedField.getBoolean(singleton), equalTo(true));
+                ++postConstructCount;
+            }
+        }
+        assertThat(postConstructCount, equalTo(20));
+    }
+
+    @Test
+    public void shouldCreate1kClasses() {
+        measureStartup(1_000);
+    }
+
+    @Test
+    public void shouldCreate10kClasses() {
+        measureStartup(10_000);
+    }
+
+    @Test
+    public void shouldCreate50kClasses() {
+        measureStartup(50_000);
+    }
+
+    private static void measureStartup(int classes) {
+        assumeTrue(Boolean.getBoolean(SCALING_PROPERTY));
+
+        // given
+        GeneratedGraph graph = new GraphGenerator()
+            .classes(classes)
+            .providers(classes / 50)
+            .postConstructMethods(classes / 10)
+            .generate();
+        long heapBefore = measureUsedHeap();
+        long start = System.nanoTime();
+
+        // when
+        Injector injector = createInjector(graph);
+        for (Class<?> root : graph.getRoots()) {
+            injector.getSingleton(root);
+        }
+
+        // then
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        long heapAfter = measureUsedHeap();
+        assertThat(injector.retrieveAllOfType(Object.class).size(), greaterThan(classes));
+        assertThat("Startup time in microseconds for " + classes + " classes",
+            elapsedMicros, lessThan(classes * MAX_MICROS_PER_CLASS));
+        assertThat("Heap growth in bytes for " + classes + " classes",
+            heapAfter - heapBefore, lessThan(classes * MAX_HEAP_BYTES_PER_CLASS));
+    }
+
+    private static Injector createInjector(GeneratedGraph graph) {
+        Injector injector = new InjectorBuilder()
+            .addDefaultHandlers(GraphGenerator.ROOT_PACKAGE)
+            .create();
+        graph.registerProviders(injector);
+        return injector;
+    }
+
+    private static Field findInitializedField(Class<?> clazz) {
+        try {
+            return clazz.getField("initialized");
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    private static long measureUsedHeap() {
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; ++i) {
+            memoryBean.gc();
+        }
+        return memoryBean.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,145 @@
+package ch.jalu.injector.utils;
+
+import ch.jalu.injector.TestUtils.ExceptionCatcher;
+import ch.jalu.injector.annotations.NoFieldScan;
+import ch.jalu.injector.annotations.NoMethodScan;
+import ch.jalu.injector.samples.inheritance.Child;
+import ch.jalu.injector.samples.inheritance.ChildWithNoInjection;
+import ch.jalu.injector.samples.inheritance.Grandparent;
+import ch.jalu.injector.samples.inheritance.Parent;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link InjectionMetadata}.
+ */
+public class InjectionMetadataTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+    private ExceptionCatcher exceptionCatcher = new ExceptionCatcher(expectedException);
+
+    @Test
+    public void shouldReturnSameMetadataForClass() {
+        // given / when
+        InjectionMetadata metadata = InjectionMetadata.of(Child.class);
+
+        // then
+        assertThat(InjectionMetadata.of(Child.class), sameInstance(metadata));
+        assertThat(metadata.getFieldsToInject(), sameInstance(InjectionMetadata.of(Child.class).getFieldsToInject()));
+    }
+
+    @Test
+    public void shouldReturnFieldsOfClassAndParents() throws NoSuchFieldException {
+        // given / when
+        List<Field> fields = InjectionMetadata.of(Child.class).getFieldsToInject();
+
+        // then
+        assertThat(fields, contains(Parent.class.getDeclaredField("betaManager"),
+            Grandparent.class.getDeclaredField("alphaService"), Grandparent.class.getDeclaredField("betaManager")));
+        assertThat(InjectionMetadata.of(ChildWithNoInjection.class).getFieldsToInject(),
+            equalTo(InjectionMetadata.of(Grandparent.class).getFieldsToInject()));
+    }
+
+    @Test
+    public void shouldRespectNoFieldScanAndNoMethodScan() {
+        // given / when
+        InjectionMetadata metadata = InjectionMetadata.of(NoScanChild.class);
+
+        // then
+        assertThat(metadata.getFieldsToInject(), empty());
+        assertThat(metadata.getInjectMethod(), nullValue());
+        assertThat(metadata.getPostConstructMethods(), empty());
+    }
+
+    @Test
+    public void shouldReturnInjectMethodOfParent() throws NoSuchMethodException {
+        // given / when
+        Method injectMethod = InjectionMetadata.of(InjectMethodChild.class).getInjectMethod();
+
+        // then
+        assertThat(injectMethod, equalTo(InjectMethodParent.class.getDeclaredMethod("setValue", String.class)));
+        assertThat(InjectionMetadata.of(Child.class).getInjectMethod(), nullValue());
+    }
+
+    @Test
+    public void shouldReturnPostConstructMethodsStartingWithParent() throws NoSuchMethodException {
+        // given / when
+        List<Method> methods = InjectionMetadata.of(Child.class).getPostConstructMethods();
+
+        // then
+        assertThat(methods, contains(Parent.class.getDeclaredMethod("init"), Child.class.getDeclaredMethod("initChild")));
+        assertThat(InjectionMetadata.of(Child.class).getPostConstructMethods(), sameInstance(methods));
+    }
+
+    @Test
+    public void shouldThrowForInvalidPostConstructMethodOfParent() {
+        // given
+        InjectionMetadata metadata = InjectionMetadata.of(InvalidPostConstructChild.class);
+
+        // expect
+        exceptionCatcher.expect("@PostConstruct method must have return type void");
+
+        // when
+        metadata.getPostConstructMethods();
+    }
+
+    @Test
+    public void shouldReturnDeclaredConstructors() {
+        // given / when / then
+        assertThat(InjectionMetadata.of(Child.class).getDeclaredConstructors(), hasSize(1));
+        assertThat(InjectionMetadata.of(Child.class).getDeclaredConstructors().get(0).getParameterCount(), equalTo(2));
+    }
+
+    @NoFieldScan
+    @NoMethodScan
+    private static final class NoScanChild {
+        @Inject
+        private String value;
+
+        @Inject
+        private void setValue(String value) {
+        }
+
+        @PostConstruct
+        private void init() {
+        }
+    }
+
+    private static class InjectMethodParent {
+        @Inject
+        void setValue(String value) {
+        }
+    }
+
+    private static final class InjectMethodChild extends InjectMethodParent {
+    }
+
+    private static class InvalidPostConstructParent {
+        @PostConstruct
+        int init() {
+            return 0;
+        }
+    }
+
+    private static final class InvalidPostConstructChild extends InvalidPostConstructParent {
+        @PostConstruct
+        void initChild() {
+        }
+    }
+}